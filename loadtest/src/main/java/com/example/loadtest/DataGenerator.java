@@ -0,0 +1,70 @@
+package com.example.loadtest;
+
+import org.postgresql.PGConnection;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+
+final class DataGenerator {
+
+    private static final String COPY_SQL = "COPY users (id, name, email, birthdate, gender, type, enabled, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final Options options;
+
+    DataGenerator(Options options) {
+        this.options = options;
+    }
+
+    void run() throws Exception {
+        var users = Long.parseLong(options.require("users"));
+        var seed = options.getLong("seed", 42);
+        var batchSize = options.getLong("batch-size", 50_000);
+        var generator = new UserGenerator(seed);
+
+        try (Connection connection = DriverManager.getConnection(
+                options.get("jdbc-url", "jdbc:postgresql://localhost:5432/micronaut-demo"),
+                options.get("jdbc-user", "user"),
+                options.get("jdbc-password", "pass"))) {
+            if (options.getBoolean("truncate")) {
+                execute(connection, "TRUNCATE TABLE users");
+            }
+
+            var copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            var start = System.nanoTime();
+            var loadedAt = Instant.now();
+            var csv = new StringBuilder();
+            for (long index = 0; index < users; index++) {
+                append(csv, generator.user(index), loadedAt);
+                if ((index + 1) % batchSize == 0 || index + 1 == users) {
+                    copy.copyIn(COPY_SQL, new StringReader(csv.toString()));
+                    csv.setLength(0);
+                    System.out.printf("Loaded %d/%d users%n", index + 1, users);
+                }
+            }
+            execute(connection, "ANALYZE users");
+            System.out.printf("Generated %d users with seed %d in %d s%n", users, seed, (System.nanoTime() - start) / 1_000_000_000);
+        }
+    }
+
+    private static void append(StringBuilder csv, GeneratedUser user, Instant loadedAt) {
+        csv.append(user.id()).append(',')
+                .append(user.name()).append(',')
+                .append(user.email()).append(',')
+                .append(user.birthdate()).append(',')
+                .append(user.gender()).append(',')
+                .append(user.type()).append(',')
+                .append(user.enabled()).append(',')
+                .append(loadedAt).append(',')
+                .append(loadedAt)
+                .append('\n');
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
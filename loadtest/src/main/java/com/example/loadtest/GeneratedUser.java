@@ -0,0 +1,15 @@
+package com.example.loadtest;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+record GeneratedUser(
+        UUID id,
+        String name,
+        String email,
+        LocalDate birthdate,
+        String gender,
+        String type,
+        boolean enabled
+) {
+}
@@ -0,0 +1,40 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+final class LatencyReport {
+
+    private final Scenario scenario;
+    private final ScenarioRunner.Results results;
+
+    LatencyReport(Scenario scenario, ScenarioRunner.Results results) {
+        this.scenario = scenario;
+        this.results = results;
+    }
+
+    void print(PrintStream out) {
+        var seconds = scenario.duration().toMillis() / 1000d;
+        var all = new Histogram(3);
+        out.printf("%n%-10s %10s %10s %10s %10s %10s %10s  %s%n", "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "outcomes");
+        for (Map.Entry<Operation, Histogram> entry : results.latencies.entrySet()) {
+            all.add(entry.getValue());
+            print(out, entry.getKey().key(), entry.getValue(), seconds, results.outcomes.get(entry.getKey()).toString());
+        }
+        print(out, "total", all, seconds, "");
+    }
+
+    private static void print(PrintStream out, String name, Histogram histogram, double seconds, String outcomes) {
+        out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f  %s%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000d,
+                histogram.getValueAtPercentile(99) / 1000d,
+                histogram.getValueAtPercentile(99.9) / 1000d,
+                histogram.getMaxValue() / 1000d,
+                outcomes);
+    }
+}
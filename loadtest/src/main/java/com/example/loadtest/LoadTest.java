@@ -0,0 +1,32 @@
+package com.example.loadtest;
+
+import java.nio.file.Path;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+
+        var options = Options.parse(args);
+        switch (args[0]) {
+            case "generate" -> new DataGenerator(options).run();
+            case "run" -> new ScenarioRunner(Scenario.load(Path.of(options.require("scenario"))), options).run();
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("""
+                Usage:
+                  generate --users=<count> [--seed=42] [--batch-size=50000] [--truncate=false]
+                           [--jdbc-url=jdbc:postgresql://localhost:5432/micronaut-demo] [--jdbc-user=user] [--jdbc-password=pass]
+                  run      --scenario=<file> [--base-url=http://localhost:8080]
+                """);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.loadtest;
+
+enum Operation {
+    SEARCH("search"),
+    GET_BY_ID("get-by-id"),
+    CREATE("create");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class RequestFactory {
+
+    private static final String[] TYPES = {"T1", "T2", "T3"};
+    private static final String[] GENDERS = {"MALE", "FEMALE"};
+
+    private final Scenario scenario;
+    private final UserGenerator generator;
+    private final String baseUrl;
+    private final String clientId;
+    private final SplittableRandom random;
+    private long created;
+
+    RequestFactory(Scenario scenario, String baseUrl, int virtualUser) {
+        this.scenario = scenario;
+        this.generator = new UserGenerator(scenario.seed());
+        this.baseUrl = baseUrl;
+        this.clientId = "loadtest-" + virtualUser;
+        this.random = new SplittableRandom(scenario.seed() * 1_000_003 + virtualUser);
+        this.created = scenario.users() + (long) virtualUser * 1_000_000_000L;
+    }
+
+    Operation next() {
+        return scenario.pick(random.nextInt(scenario.totalWeight()));
+    }
+
+    HttpRequest build(Operation operation) {
+        return switch (operation) {
+            case SEARCH -> get("/users?" + searchQuery());
+            case GET_BY_ID -> get("/users/" + generator.id(random.nextLong(scenario.users())));
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/users"))
+                    .header("X-Client-Id", clientId)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(generator.user(created++))))
+                    .build();
+        };
+    }
+
+    private String searchQuery() {
+        List<String> params = new ArrayList<>();
+        var filters = random.nextInt(16);
+        if ((filters & 1) != 0) {
+            params.add("name=" + encode(UserGenerator.namePrefix(random)));
+        }
+        if ((filters & 2) != 0) {
+            params.add("older_than=" + (18 + random.nextInt(60)));
+        }
+        if ((filters & 4) != 0) {
+            List<String> types = new ArrayList<>();
+            for (String type : TYPES) {
+                if (random.nextBoolean()) {
+                    types.add(type);
+                }
+            }
+            if (types.isEmpty()) {
+                types.add(TYPES[random.nextInt(TYPES.length)]);
+            }
+            params.add("types=" + String.join(",", types));
+        }
+        if ((filters & 8) != 0) {
+            params.add("gender=" + GENDERS[random.nextInt(GENDERS.length)]);
+        }
+        var sort = scenario.sorts().get(random.nextInt(scenario.sorts().size()));
+        if (!sort.isEmpty()) {
+            params.add("sort=" + encode(sort));
+        }
+        params.add("size=" + scenario.pageSize());
+        params.add("page=" + random.nextInt(5));
+        return String.join("&", params);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Client-Id", clientId)
+                .GET()
+                .build();
+    }
+
+    private static String createBody(GeneratedUser user) {
+        return """
+                {"name":"%s","email":"%s","birthdate":"%s","gender":"%s","type":"%s"}"""
+                .formatted(user.name(), user.email(), user.birthdate(), user.gender(), user.type());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, UTF_8);
+    }
+}
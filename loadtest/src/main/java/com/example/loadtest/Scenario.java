@@ -0,0 +1,73 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+record Scenario(
+        String name,
+        Duration duration,
+        Duration warmUp,
+        int virtualUsers,
+        double requestsPerSecond,
+        Map<Operation, Integer> weights,
+        List<String> sorts,
+        int pageSize,
+        long users,
+        long seed
+) {
+
+    static Scenario load(Path path) throws IOException {
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, Integer.parseInt(properties.getProperty("weight." + operation.key(), "0")));
+        }
+        return new Scenario(
+                properties.getProperty("name", path.getFileName().toString()),
+                duration(properties.getProperty("duration", "60s")),
+                duration(properties.getProperty("warm-up", "10s")),
+                Integer.parseInt(properties.getProperty("virtual-users", "16")),
+                Double.parseDouble(properties.getProperty("requests-per-second", "0")),
+                weights,
+                List.of(properties.getProperty("sorts", "").split("\\|", -1)),
+                Integer.parseInt(properties.getProperty("page-size", "20")),
+                Long.parseLong(properties.getProperty("users", "1000000")),
+                Long.parseLong(properties.getProperty("seed", "42")));
+    }
+
+    Operation pick(int roll) {
+        var total = 0;
+        for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+            total += weight.getValue();
+            if (roll < total) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Scenario " + name + " has no weighted operations");
+    }
+
+    int totalWeight() {
+        return weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static Duration duration(String value) {
+        var amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration " + value);
+        };
+    }
+}
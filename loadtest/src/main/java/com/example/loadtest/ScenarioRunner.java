@@ -0,0 +1,115 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+final class ScenarioRunner {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Scenario scenario;
+    private final String baseUrl;
+
+    ScenarioRunner(Scenario scenario, Options options) {
+        this.scenario = scenario;
+        this.baseUrl = options.get("base-url", "http://localhost:8080");
+    }
+
+    void run() throws Exception {
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        var start = System.nanoTime();
+        var measureFrom = start + scenario.warmUp().toNanos();
+        var end = measureFrom + scenario.duration().toNanos();
+        var intervalNanos = scenario.requestsPerSecond() > 0
+                ? (long) (scenario.virtualUsers() * 1_000_000_000d / scenario.requestsPerSecond())
+                : 0;
+
+        System.out.printf("Running %s: %d virtual users, %s warm-up, %s measured%n",
+                scenario.name(), scenario.virtualUsers(), scenario.warmUp(), scenario.duration());
+
+        List<Future<Results>> futures = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int virtualUser = 0; virtualUser < scenario.virtualUsers(); virtualUser++) {
+                var requests = new RequestFactory(scenario, baseUrl, virtualUser);
+                futures.add(executor.submit(() -> runVirtualUser(client, requests, measureFrom, end, intervalNanos)));
+            }
+        }
+
+        var total = new Results();
+        for (Future<Results> future : futures) {
+            total.merge(future.get());
+        }
+        new LatencyReport(scenario, total).print(System.out);
+    }
+
+    private static Results runVirtualUser(HttpClient client, RequestFactory requests, long measureFrom, long end, long intervalNanos) {
+        var results = new Results();
+        var intervalMicros = TimeUnit.NANOSECONDS.toMicros(intervalNanos);
+        var next = System.nanoTime();
+        while (System.nanoTime() < end) {
+            if (intervalNanos > 0) {
+                LockSupport.parkNanos(next - System.nanoTime());
+                next += intervalNanos;
+            }
+
+            var operation = requests.next();
+            var request = requests.build(operation);
+            var sent = System.nanoTime();
+            String outcome;
+            try {
+                outcome = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            } catch (IOException e) {
+                outcome = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            var received = System.nanoTime();
+
+            if (sent >= measureFrom) {
+                results.record(operation, outcome, Math.min(TimeUnit.NANOSECONDS.toMicros(received - sent), MAX_LATENCY_MICROS), intervalMicros);
+            }
+        }
+        return results;
+    }
+
+    static final class Results {
+
+        final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        final Map<Operation, Map<String, Long>> outcomes = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, String outcome, long latencyMicros, long intervalMicros) {
+            var histogram = latencies.computeIfAbsent(operation, key -> new Histogram(MAX_LATENCY_MICROS, 3));
+            if (intervalMicros > 0) {
+                histogram.recordValueWithExpectedInterval(latencyMicros, intervalMicros);
+            } else {
+                histogram.recordValue(latencyMicros);
+            }
+            outcomes.computeIfAbsent(operation, key -> new TreeMap<>()).merge(outcome, 1L, Long::sum);
+        }
+
+        void merge(Results other) {
+            other.latencies.forEach((operation, histogram) ->
+                    latencies.computeIfAbsent(operation, key -> new Histogram(MAX_LATENCY_MICROS, 3)).add(histogram));
+            other.outcomes.forEach((operation, counts) -> counts.forEach((outcome, count) ->
+                    outcomes.computeIfAbsent(operation, key -> new TreeMap<>()).merge(outcome, count, Long::sum)));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.loadtest;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+final class UserGenerator {
+
+    static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 1, 1);
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra", "Mark", "Emily", "Olivia", "Sophia"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"
+    };
+    private static final String[] DOMAINS = {"gmail.com", "yahoo.com", "hotmail.com", "example.com"};
+
+    private final long seed;
+
+    UserGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    UUID id(long index) {
+        return new UUID(mix(seed * 31 + index), mix(index ^ 0x9E3779B97F4A7C15L ^ seed));
+    }
+
+    GeneratedUser user(long index) {
+        var random = random(index);
+        var first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        var last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        var age = (int) Math.clamp(Math.round(random.nextGaussian(38, 14)), 18, 95);
+        return new GeneratedUser(
+                id(index),
+                first + " " + last,
+                (first + "." + last + "." + index + "@" + DOMAINS[random.nextInt(DOMAINS.length)]).toLowerCase(),
+                REFERENCE_DATE.minusYears(age).minusDays(random.nextInt(365)),
+                random.nextInt(100) < 49 ? "MALE" : "FEMALE",
+                type(random.nextInt(100)),
+                random.nextInt(100) >= 3);
+    }
+
+    static String namePrefix(SplittableRandom random) {
+        var name = random.nextBoolean()
+                ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                : LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return name.substring(0, 2 + random.nextInt(name.length() - 1));
+    }
+
+    private SplittableRandom random(long index) {
+        return new SplittableRandom(mix(seed ^ mix(index)));
+    }
+
+    private static String type(int percentile) {
+        if (percentile < 55) {
+            return "T1";
+        }
+        return percentile < 85 ? "T2" : "T3";
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
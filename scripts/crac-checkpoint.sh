@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Starts the application on a CRaC enabled JDK, warms it up with HTTP traffic and checkpoints it.
+# Restore with: java -XX:CRaCRestoreFrom=build/crac
+#
+# Usage: scripts/crac-checkpoint.sh <jar>
+set -euo pipefail
+
+JAR="$1"
+CHECKPOINT_DIR="build/crac"
+PORT="${MICRONAUT_SERVER_PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+ITERATIONS="${WARMUP_ITERATIONS:-500}"
+
+export MICRONAUT_ENVIRONMENTS="${MICRONAUT_ENVIRONMENTS:-local}"
+
+rm -rf "$CHECKPOINT_DIR"
+mkdir -p "$CHECKPOINT_DIR"
+
+# Admission control is suspended while warming up and resumes when the checkpoint is restored.
+java -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" -Dusers.admission.suspend-until-restore=true -jar "$JAR" &
+pid=$!
+
+until [ "$(curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/health" || true)" = "200" ]; do
+  sleep 0.1
+done
+
+for i in $(seq 1 "$ITERATIONS"); do
+  curl -s -o /dev/null "${BASE_URL}/users?size=20"
+  curl -s -o /dev/null "${BASE_URL}/users?name=a&older_than=30&types=T1,T2&gender=MALE&sort=name"
+  curl -s -o /dev/null -H "Accept: application/cbor" "${BASE_URL}/users?gender=FEMALE"
+  curl -s -o /dev/null "${BASE_URL}/users/00000000-0000-0000-0000-000000000000"
+done
+
+jcmd "$pid" JDK.checkpoint
+wait "$pid" || true
+echo "Checkpoint written to ${CHECKPOINT_DIR}"
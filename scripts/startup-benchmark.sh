@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Measures time to first request and resident memory of the JVM jar (plain, with an AppCDS archive
+# and restored from a CRaC checkpoint) and the native image. Variants that haven't been built are skipped.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+# Requires the database from docker-compose.yml, plus
+# `./gradlew optimizedJitJarAll cdsArchive cracCheckpoint nativeCompile`.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${MICRONAUT_SERVER_PORT:-8080}"
+URL="http://localhost:${PORT}/users/00000000-0000-0000-0000-000000000000"
+JAR="$(ls build/libs/*-all-optimized.jar 2>/dev/null | head -n 1 || true)"
+NATIVE="build/native/nativeCompile/micronaut-demo"
+CDS_ARCHIVE="build/cds/micronaut-demo.jsa"
+CRAC_CHECKPOINT="build/crac"
+
+export MICRONAUT_ENVIRONMENTS="${MICRONAUT_ENVIRONMENTS:-local}"
+
+measure() {
+  local name="$1"
+  shift
+  local total_ms=0 total_rss=0
+  for run in $(seq 1 "$RUNS"); do
+    local start end pid code rss
+    start=$(date +%s%N)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    code=000
+    until [ "$code" != "000" ]; do
+      code=$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)
+    done
+    end=$(date +%s%N)
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/${pid}/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    total_ms=$((total_ms + (end - start) / 1000000))
+    total_rss=$((total_rss + rss))
+    printf '%-8s run %d: first request after %d ms, RSS %d MB\n' "$name" "$run" $(((end - start) / 1000000)) $((rss / 1024))
+  done
+  printf '%-8s average: first request after %d ms, RSS %d MB\n\n' "$name" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+if [ -n "$JAR" ]; then
+  measure "jvm" java -jar "$JAR"
+else
+  echo "Skipping JVM: run ./gradlew optimizedJitJarAll first"
+fi
+
+if [ -n "$JAR" ] && [ -f "$CDS_ARCHIVE" ]; then
+  measure "jvm-cds" java -XX:SharedArchiveFile="$CDS_ARCHIVE" -jar "$JAR"
+else
+  echo "Skipping JVM with AppCDS: run ./gradlew cdsArchive first"
+fi
+
+if [ -d "$CRAC_CHECKPOINT" ]; then
+  measure "crac" java -XX:CRaCRestoreFrom="$CRAC_CHECKPOINT"
+else
+  echo "Skipping CRaC: run ./gradlew cracCheckpoint first"
+fi
+
+if [ -x "$NATIVE" ]; then
+  measure "native" "$NATIVE"
+else
+  echo "Skipping native: run ./gradlew nativeCompile first"
+fi
@@ -0,0 +1,88 @@
+package com.example.cache;
+
+import com.example.codec.BinaryCodec;
+import com.example.codec.ResponseEncoder;
+import com.example.config.ValidationProperties;
+import com.example.dto.ApiError;
+import com.example.dto.CreateUserReq;
+import com.example.validation.RequestValidator;
+import io.micronaut.context.BeanContext;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.validation.validator.Validator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.example.dto.ErrorType.VALIDATION_ERROR;
+import static io.micronaut.http.MediaType.APPLICATION_JSON_TYPE;
+
+/**
+ * Compares the cost of rejecting an invalid {@link CreateUserReq}. Run with the {@code gc} profiler
+ * (enabled in the {@code jmh} block) and compare {@code gc.alloc.rate.norm}, the bytes allocated per rejected request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationErrorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean failFast;
+
+    private BeanContext context;
+    private ObjectMapper objectMapper;
+    private ErrorResponseCache errorResponseCache;
+    private RequestValidator requestValidator;
+    private Validator validator;
+    private CreateUserReq invalidReq;
+    private Set<ConstraintViolation<CreateUserReq>> violations;
+
+    @Setup
+    public void setUp() {
+        var properties = new ValidationProperties();
+        properties.setFailFast(failFast);
+        context = BeanContext.run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        errorResponseCache = new ErrorResponseCache(new ResponseEncoder(objectMapper, context.getBean(BinaryCodec.class)), properties);
+        validator = Validator.getInstance();
+        requestValidator = new RequestValidator(validator, properties);
+        invalidReq = CreateUserReq.builder()
+                .email("jdoe")
+                .build();
+        violations = validator.validate(invalidReq);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws IOException {
+        return objectMapper.writeValueAsBytes(ApiError.builder()
+                .error(VALIDATION_ERROR)
+                .message(violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .collect(Collectors.joining(", ")))
+                .build());
+    }
+
+    @Benchmark
+    public byte[] cachedError() {
+        return errorResponseCache.validationError(APPLICATION_JSON_TYPE, violations);
+    }
+
+    @Benchmark
+    public byte[] rejectRequest() {
+        try {
+            requestValidator.validate(invalidReq);
+            throw new IllegalStateException("Request should have been rejected");
+        } catch (ConstraintViolationException e) {
+            return errorResponseCache.validationError(APPLICATION_JSON_TYPE, e.getConstraintViolations());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.codec;
+
+import com.example.dto.CustomPage;
+import com.example.dto.Gender;
+import com.example.dto.UserDto;
+import com.example.dto.UserType;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.GenericArgument;
+import io.micronaut.serde.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final Argument<CustomPage<UserDto>> PAGE_TYPE = new GenericArgument<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private BeanContext context;
+    private ObjectMapper objectMapper;
+    private BinaryCodec binaryCodec;
+    private BinaryFormat binaryFormat;
+    private CustomPage<UserDto> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = BeanContext.run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        binaryCodec = context.getBean(BinaryCodec.class);
+        binaryFormat = "JSON".equals(format) ? null : BinaryFormat.valueOf(format);
+        page = CustomPage.<UserDto>builder()
+                .results(IntStream.range(0, pageSize).mapToObj(PayloadFormatBenchmark::user).toList())
+                .pageSize(pageSize)
+                .pageNumber(0)
+                .totalCount(pageSize)
+                .build();
+        encoded = write();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        var bytes = write();
+        payloadSize.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public CustomPage<UserDto> decode() throws IOException {
+        return binaryFormat == null
+                ? objectMapper.readValue(encoded, PAGE_TYPE)
+                : binaryCodec.read(binaryFormat, PAGE_TYPE, encoded);
+    }
+
+    private byte[] write() throws IOException {
+        return binaryFormat == null
+                ? objectMapper.writeValueAsBytes(PAGE_TYPE, page)
+                : binaryCodec.writeValueAsBytes(binaryFormat, PAGE_TYPE, page);
+    }
+
+    private static UserDto user(int i) {
+        return UserDto.builder()
+                .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()))
+                .name("User " + i)
+                .email("user" + i + "@example.com")
+                .birthdate(LocalDate.of(1950 + i % 60, 1 + i % 12, 1 + i % 28))
+                .gender(Gender.values()[i % Gender.values().length])
+                .type(UserType.values()[i % UserType.values().length])
+                .build();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.persistence;
+
+import com.example.dto.Gender;
+import com.example.dto.SearchUsersReq;
+import com.example.dto.UserType;
+import com.example.persistence.model.User;
+import com.example.persistence.specification.UserSearchCompiler;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.repository.jpa.criteria.QuerySpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.persistence.specification.UserSpecification.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchQueryBenchmark {
+
+    private static final String TENANT = "default";
+    private static final Sort SORT = Sort.of(Sort.Order.asc("name"));
+
+    @Param({"NONE", "NAME", "ALL"})
+    private String filters;
+
+    private ApplicationContext context;
+    private EntityManager entityManager;
+    private UserSearchCompiler userSearchCompiler;
+    private Clock clock;
+    private SearchUsersReq req;
+
+    @Setup
+    public void setUp() {
+        context = ApplicationContext.run(Map.of(
+                "datasources.default.url", "jdbc:h2:mem:benchmark;MODE=PostgreSQL",
+                "datasources.default.driver-class-name", "org.h2.Driver",
+                "datasources.default.username", "sa",
+                "datasources.default.password", "",
+                "datasources.default.dialect", "H2",
+                "datasources.default.schema-generate", "CREATE_DROP",
+                "jpa.default.properties.hibernate.show_sql", false,
+                "users.outbox.relay-enabled", false,
+                "users.warm-up.enabled", false));
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        userSearchCompiler = context.getBean(UserSearchCompiler.class);
+        clock = Clock.systemUTC();
+        req = switch (filters) {
+            case "NAME" -> SearchUsersReq.builder().name("ohn").build();
+            case "ALL" -> SearchUsersReq.builder()
+                    .name("ohn")
+                    .olderThan(30)
+                    .types(Set.of(UserType.T1, UserType.T2))
+                    .gender(Gender.MALE)
+                    .build();
+            default -> SearchUsersReq.builder().build();
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Query criteria() {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(User.class);
+        var root = query.from(User.class);
+        var predicate = QuerySpecification.<User>where((r, q, b) -> b.equal(r.get("tenantId"), TENANT))
+                .and(nameLike(req.name()))
+                .and(olderThan(req.olderThan(), clock))
+                .and(typeIn(req.types()))
+                .and(genderEquals(req.gender()))
+                .and(isEnabled(true))
+                .toPredicate(root, query, cb);
+        query.where(predicate).orderBy(cb.asc(root.get("name")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setFirstResult(0)
+                .setMaxResults(20);
+    }
+
+    @Benchmark
+    public Query compiled() {
+        var template = userSearchCompiler.compile(req, SORT);
+        return template.bind(entityManager.createQuery(template.getSelectQuery(), User.class), TENANT, req, LocalDate.now(clock))
+                .setFirstResult(0)
+                .setMaxResults(20);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.cache;
+
+import jakarta.annotation.Nullable;
+
+import java.util.UUID;
+
+public record CacheInvalidation(
+        String origin,
+        String tenantId,
+        @Nullable UUID userId
+) {
+}
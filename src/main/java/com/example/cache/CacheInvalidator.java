@@ -0,0 +1,66 @@
+package com.example.cache;
+
+import com.example.event.UserCreatedEvent;
+import com.example.event.UserDeletedEvent;
+import io.micronaut.crac.OrderedResource;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import org.crac.Context;
+import org.crac.Resource;
+
+import java.util.UUID;
+
+@Singleton
+@RequiredArgsConstructor
+public class CacheInvalidator implements OrderedResource {
+
+    private volatile String nodeId = UUID.randomUUID().toString();
+    private final UserCache userCache;
+    private final SerializedResponseCache responseCache;
+    private final InvalidationBus invalidationBus;
+
+    @TransactionalEventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        invalidate(event.tenantId(), null);
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate(event.tenantId(), event.id());
+    }
+
+    @EventListener
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.origin())) {
+            evictLocal(invalidation.tenantId(), invalidation.userId());
+        }
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        nodeId = UUID.randomUUID().toString();
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void invalidate(String tenantId, UUID userId) {
+        responseCache.evictShared(tenantId, userId);
+        evictLocal(tenantId, userId);
+        invalidationBus.publish(new CacheInvalidation(nodeId, tenantId, userId));
+    }
+
+    private void evictLocal(String tenantId, UUID userId) {
+        if (userId != null) {
+            userCache.invalidate(tenantId, userId);
+        }
+        responseCache.evictLocal(tenantId, userId);
+    }
+}
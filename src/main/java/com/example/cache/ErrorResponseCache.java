@@ -0,0 +1,63 @@
+package com.example.cache;
+
+import com.example.codec.ResponseEncoder;
+import com.example.config.ValidationProperties;
+import com.example.dto.ApiError;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.dto.ErrorType.VALIDATION_ERROR;
+
+@Singleton
+public class ErrorResponseCache {
+
+    private static final Argument<ApiError> ERROR_TYPE = Argument.of(ApiError.class);
+
+    private final ResponseEncoder responseEncoder;
+    private final int maximumSize;
+    private final Map<String, Map<String, byte[]>> validationErrors = new ConcurrentHashMap<>();
+
+    public ErrorResponseCache(ResponseEncoder responseEncoder, ValidationProperties properties) {
+        this.responseEncoder = responseEncoder;
+        this.maximumSize = properties.getErrorCacheSize();
+    }
+
+    public byte[] validationError(MediaType mediaType, Set<? extends ConstraintViolation<?>> violations) {
+        var message = message(violations);
+        var responses = validationErrors.computeIfAbsent(mediaType.getName(), key -> new ConcurrentHashMap<>());
+        var response = responses.get(message);
+        if (response != null) {
+            return response;
+        }
+
+        response = responseEncoder.encode(mediaType, ERROR_TYPE, ApiError.builder()
+                .error(VALIDATION_ERROR)
+                .message(message)
+                .build());
+        if (responses.size() < maximumSize) {
+            responses.putIfAbsent(message, response);
+        }
+        return response;
+    }
+
+    private static String message(Set<? extends ConstraintViolation<?>> violations) {
+        if (violations.size() == 1) {
+            return violations.iterator().next().getMessage();
+        }
+
+        var messages = new String[violations.size()];
+        var i = 0;
+        for (ConstraintViolation<?> violation : violations) {
+            messages[i++] = violation.getMessage();
+        }
+        Arrays.sort(messages);
+        return String.join(", ", messages);
+    }
+}
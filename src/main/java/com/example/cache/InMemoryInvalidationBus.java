@@ -0,0 +1,17 @@
+package com.example.cache;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+    private final ApplicationEventPublisher<CacheInvalidation> invalidationPublisher;
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        invalidationPublisher.publishEvent(invalidation);
+    }
+}
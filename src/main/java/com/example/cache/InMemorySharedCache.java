@@ -0,0 +1,49 @@
+package com.example.cache;
+
+import com.example.config.SharedCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Singleton
+@Requires(property = "users.shared-cache.enabled", value = StringUtils.TRUE)
+@RequiredArgsConstructor
+public class InMemorySharedCache implements SharedCache {
+
+    private final SharedCacheProperties properties;
+    private final Map<String, Cache<String, byte[]>> regions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<byte[]> get(String region, String key) {
+        return Optional.ofNullable(region(region).getIfPresent(key));
+    }
+
+    @Override
+    public void put(String region, String key, byte[] value) {
+        region(region).put(key, value);
+    }
+
+    @Override
+    public void invalidate(String region, String key) {
+        region(region).invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll(String region) {
+        region(region).invalidateAll();
+    }
+
+    private Cache<String, byte[]> region(String region) {
+        return regions.computeIfAbsent(region, name -> Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build());
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.cache;
+
+public interface InvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,121 @@
+package com.example.cache;
+
+import com.example.codec.ResponseEncoder;
+import com.example.config.ResponseCacheProperties;
+import com.example.dto.CustomPage;
+import com.example.dto.SearchUsersReq;
+import com.example.dto.UserDto;
+import com.example.service.SearchKey;
+import com.example.tenant.TenantContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.GenericArgument;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.http.MediaType;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
+import static io.micronaut.http.MediaType.APPLICATION_JSON;
+
+@Singleton
+public class SerializedResponseCache {
+
+    private static final Argument<UserDto> USER_TYPE = Argument.of(UserDto.class);
+    private static final Argument<CustomPage<UserDto>> PAGE_TYPE = new GenericArgument<>() {
+    };
+    private static final List<String> MEDIA_TYPES = List.of(APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE);
+    private static final String BY_ID_REGION = "users-by-id";
+    private static final String SEARCH_REGION = "users-search";
+
+    private final ResponseEncoder responseEncoder;
+    private final TenantContext tenantContext;
+    private final SharedCache sharedCache;
+    private final boolean enabled;
+    private final Cache<ByIdKey, byte[]> byId;
+    private final Cache<SearchResponseKey, byte[]> searches;
+
+    public SerializedResponseCache(ResponseEncoder responseEncoder, TenantContext tenantContext, ResponseCacheProperties properties, @Nullable SharedCache sharedCache) {
+        this.responseEncoder = responseEncoder;
+        this.tenantContext = tenantContext;
+        this.sharedCache = sharedCache;
+        this.enabled = properties.isEnabled();
+        this.byId = buildCache(properties);
+        this.searches = buildCache(properties);
+    }
+
+    public byte[] getById(UUID id, MediaType mediaType, Supplier<UserDto> loader) {
+        var key = new ByIdKey(tenantContext.current(), id, mediaType.getName());
+        return get(byId, key, BY_ID_REGION, key.toString(), () -> responseEncoder.encode(mediaType, USER_TYPE, loader.get()));
+    }
+
+    public byte[] search(SearchUsersReq req, Pageable pageable, MediaType mediaType, Supplier<CustomPage<UserDto>> loader) {
+        var key = new SearchResponseKey(SearchKey.of(tenantContext.current(), req, pageable), mediaType.getName());
+        return get(searches, key, searchRegion(key.search().tenantId()), key.toString(), () -> responseEncoder.encode(mediaType, PAGE_TYPE, loader.get()));
+    }
+
+    public void evictLocal(String tenantId, @Nullable UUID userId) {
+        if (userId != null) {
+            MEDIA_TYPES.forEach(mediaType -> byId.invalidate(new ByIdKey(tenantId, userId, mediaType)));
+        }
+        searches.asMap().keySet().removeIf(key -> key.search().tenantId().equals(tenantId));
+    }
+
+    public void evictShared(String tenantId, @Nullable UUID userId) {
+        if (sharedCache == null) {
+            return;
+        }
+        if (userId != null) {
+            MEDIA_TYPES.forEach(mediaType -> sharedCache.invalidate(BY_ID_REGION, new ByIdKey(tenantId, userId, mediaType).toString()));
+        }
+        sharedCache.invalidateAll(searchRegion(tenantId));
+    }
+
+    private <K> byte[] get(Cache<K, byte[]> local, K key, String region, String sharedKey, Supplier<byte[]> encoder) {
+        if (!enabled) {
+            return getShared(region, sharedKey, encoder);
+        }
+        return local.get(key, ignored -> getShared(region, sharedKey, encoder));
+    }
+
+    private byte[] getShared(String region, String key, Supplier<byte[]> encoder) {
+        if (sharedCache == null) {
+            return encoder.get();
+        }
+        return sharedCache.get(region, key).orElseGet(() -> {
+            var value = encoder.get();
+            sharedCache.put(region, key, value);
+            return value;
+        });
+    }
+
+    private static String searchRegion(String tenantId) {
+        return SEARCH_REGION + ":" + tenantId;
+    }
+
+    private static <K> Cache<K, byte[]> buildCache(ResponseCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build();
+    }
+
+    private record ByIdKey(
+            String tenantId,
+            UUID id,
+            String mediaType
+    ) {
+    }
+
+    private record SearchResponseKey(
+            SearchKey search,
+            String mediaType
+    ) {
+    }
+}
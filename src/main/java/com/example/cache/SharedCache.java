@@ -0,0 +1,14 @@
+package com.example.cache;
+
+import java.util.Optional;
+
+public interface SharedCache {
+
+    Optional<byte[]> get(String region, String key);
+
+    void put(String region, String key, byte[] value);
+
+    void invalidate(String region, String key);
+
+    void invalidateAll(String region);
+}
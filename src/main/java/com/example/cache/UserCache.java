@@ -0,0 +1,65 @@
+package com.example.cache;
+
+import com.example.config.UserCacheProperties;
+import com.example.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Singleton
+public class UserCache {
+
+    private final boolean enabled;
+    private final Cache<UserKey, UserDto> cache;
+
+    public UserCache(UserCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build();
+    }
+
+    public UserDto get(String tenantId, UUID id, Supplier<UserDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(new UserKey(tenantId, id), key -> loader.get());
+    }
+
+    public Map<UUID, UserDto> getAllPresent(String tenantId, Collection<UUID> ids) {
+        if (!enabled) {
+            return Map.of();
+        }
+        Map<UUID, UserDto> present = new HashMap<>();
+        for (UUID id : ids) {
+            var user = cache.getIfPresent(new UserKey(tenantId, id));
+            if (user != null) {
+                present.put(id, user);
+            }
+        }
+        return present;
+    }
+
+    public void put(String tenantId, UserDto user) {
+        if (enabled) {
+            cache.put(new UserKey(tenantId, user.id()), user);
+        }
+    }
+
+    public void invalidate(String tenantId, UUID id) {
+        cache.invalidate(new UserKey(tenantId, id));
+    }
+
+    private record UserKey(
+            String tenantId,
+            UUID id
+    ) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.jackson.JacksonEncoder;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+@Singleton
+@RequiredArgsConstructor
+public class BinaryCodec {
+
+    private final SerdeRegistry serdeRegistry;
+
+    public <T> byte[] writeValueAsBytes(BinaryFormat format, Argument<T> type, T value) throws IOException {
+        var out = new ByteArrayOutputStream();
+        write(format, type, value, out);
+        return out.toByteArray();
+    }
+
+    public <T> void write(BinaryFormat format, Argument<T> type, T value, OutputStream out) throws IOException {
+        var context = serdeRegistry.newEncoderContext(null);
+        try (JsonGenerator generator = format.getFactory().createGenerator(out)) {
+            var encoder = JacksonEncoder.create(generator);
+            if (value == null) {
+                encoder.encodeNull();
+                return;
+            }
+            Serializer<? super T> serializer = serdeRegistry.findSerializer(type).createSpecific(context, type);
+            serializer.serialize(encoder, context, type, value);
+        }
+    }
+
+    public <T> T read(BinaryFormat format, Argument<T> type, byte[] bytes) throws IOException {
+        try (JsonParser parser = format.getFactory().createParser(bytes)) {
+            return read(parser, type);
+        }
+    }
+
+    public <T> T read(BinaryFormat format, Argument<T> type, InputStream in) throws IOException {
+        try (JsonParser parser = format.getFactory().createParser(in)) {
+            return read(parser, type);
+        }
+    }
+
+    private <T> T read(JsonParser parser, Argument<T> type) throws IOException {
+        var context = serdeRegistry.newDecoderContext(null);
+        Deserializer<? extends T> deserializer = serdeRegistry.findDeserializer(type).createSpecific(context, type);
+        return deserializer.deserializeNullable(JacksonDecoder.create(parser), context, type);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micronaut.http.MediaType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
+
+@Getter
+@RequiredArgsConstructor
+public enum BinaryFormat {
+    CBOR(MediaType.of(APPLICATION_CBOR), new CBORFactory()),
+    SMILE(MediaType.of(APPLICATION_SMILE), new SmileFactory());
+
+    private final MediaType mediaType;
+    private final JsonFactory factory;
+
+    public static Optional<BinaryFormat> of(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.getName().equals(mediaType.getName()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.codec;
+
+public final class BinaryMediaType {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private BinaryMediaType() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.codec;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.Headers;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.body.MessageBodyHandler;
+import io.micronaut.http.codec.CodecException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+@RequiredArgsConstructor
+abstract class BinaryMessageHandler<T> implements MessageBodyHandler<T> {
+
+    private final BinaryCodec codec;
+    private final BinaryFormat format;
+
+    @Override
+    public T read(Argument<T> type, MediaType mediaType, Headers httpHeaders, InputStream inputStream) throws CodecException {
+        try {
+            return codec.read(format, type, inputStream);
+        } catch (IOException e) {
+            throw new CodecException("Error decoding " + format + " request body: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void writeTo(Argument<T> type, MediaType mediaType, T object, MutableHeaders outgoingHeaders, OutputStream outputStream) throws CodecException {
+        try {
+            codec.write(format, type, object, outputStream);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding " + format + " response body: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.codec;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import jakarta.inject.Singleton;
+
+import static com.example.codec.BinaryFormat.CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+
+@Singleton
+@Produces(APPLICATION_CBOR)
+@Consumes(APPLICATION_CBOR)
+public class CborMessageHandler<T> extends BinaryMessageHandler<T> {
+
+    public CborMessageHandler(BinaryCodec codec) {
+        super(codec, CBOR);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.codec;
+
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
+import static io.micronaut.http.MediaType.APPLICATION_JSON_TYPE;
+
+public final class ContentNegotiation {
+
+    private ContentNegotiation() {
+    }
+
+    public static MediaType negotiate(HttpRequest<?> request) {
+        var accept = request.getHeaders().get(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains(APPLICATION_CBOR) && !accept.contains(APPLICATION_SMILE)) {
+            return APPLICATION_JSON_TYPE;
+        }
+        for (MediaType accepted : request.accept()) {
+            var format = BinaryFormat.of(accepted);
+            if (format.isPresent()) {
+                return format.get().getMediaType();
+            }
+            if (accepted.matches(APPLICATION_JSON_TYPE)) {
+                return APPLICATION_JSON_TYPE;
+            }
+        }
+        return APPLICATION_JSON_TYPE;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.codec;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+@Singleton
+@RequiredArgsConstructor
+public class ResponseEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final BinaryCodec binaryCodec;
+
+    public <T> byte[] encode(MediaType mediaType, Argument<T> type, T value) {
+        try {
+            var format = BinaryFormat.of(mediaType);
+            return format.isPresent()
+                    ? binaryCodec.writeValueAsBytes(format.get(), type, value)
+                    : objectMapper.writeValueAsBytes(type, value);
+        } catch (IOException e) {
+            throw new CodecException("Error serializing response: " + e.getMessage(), e);
+        }
+    }
+}
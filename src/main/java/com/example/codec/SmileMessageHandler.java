@@ -0,0 +1,18 @@
+package com.example.codec;
+
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.Produces;
+import jakarta.inject.Singleton;
+
+import static com.example.codec.BinaryFormat.SMILE;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
+
+@Singleton
+@Produces(APPLICATION_SMILE)
+@Consumes(APPLICATION_SMILE)
+public class SmileMessageHandler<T> extends BinaryMessageHandler<T> {
+
+    public SmileMessageHandler(BinaryCodec codec) {
+        super(codec, SMILE);
+    }
+}
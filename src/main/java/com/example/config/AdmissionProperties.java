@@ -0,0 +1,26 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private boolean suspendUntilRestore = false;
+    private String clientIdHeader = "X-Client-Id";
+    private Set<String> trustedProxies = Set.of();
+    private long capacity = 100;
+    private double refillPerSecond = 50;
+    private long expensiveSearchCost = 10;
+    private int maxConcurrentRequests = 64;
+    private int maxConcurrentExpensiveSearches = 4;
+    private Duration idleClientExpiry = Duration.ofMinutes(10);
+    private long maxClients = 100_000;
+}
@@ -0,0 +1,56 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.jdbc.hikari.DatasourceConfiguration;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class HikariPoolConfigurer implements BeanCreatedEventListener<DatasourceConfiguration> {
+
+    private static final String BLOCKING_THREADS = "micronaut.executors.blocking.number-of-threads";
+    private static final String IO_THREADS = "micronaut.executors.io.number-of-threads";
+
+    private final PoolProperties properties;
+    private final Environment environment;
+    private final BeanProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public DatasourceConfiguration onCreated(BeanCreatedEvent<DatasourceConfiguration> event) {
+        var configuration = event.getBean();
+        if (configuration.getPoolName() == null) {
+            configuration.setPoolName(configuration.getName());
+        }
+        if (properties.isAutoSize() && !environment.containsProperty("datasources." + configuration.getName() + ".maximum-pool-size")) {
+            var size = poolSize();
+            configuration.setMaximumPoolSize(size);
+            log.info("Sized connection pool {} to {} connections", configuration.getPoolName(), size);
+        }
+        if (configuration.getMetricRegistry() == null && configuration.getMetricsTrackerFactory() == null) {
+            configuration.setMetricRegistry(meterRegistry.get());
+        }
+        return configuration;
+    }
+
+    private int poolSize() {
+        var executorThreads = environment.getProperty(BLOCKING_THREADS, Integer.class)
+                .or(() -> environment.getProperty(IO_THREADS, Integer.class))
+                .orElse(null);
+        return poolSize(Runtime.getRuntime().availableProcessors(), executorThreads, properties);
+    }
+
+    static int poolSize(int processors, Integer executorThreads, PoolProperties properties) {
+        var size = processors * properties.getConnectionsPerCore() + 1;
+        if (executorThreads != null) {
+            size = Math.min(size, executorThreads);
+        }
+        return Math.clamp(size, properties.getMinimumSize(), properties.getMaximumSize());
+    }
+}
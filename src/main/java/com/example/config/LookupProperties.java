@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.lookup")
+public class LookupProperties {
+
+    private int maxIds = 100;
+}
@@ -0,0 +1,28 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micronaut.context.annotation.Factory;
+import jakarta.inject.Singleton;
+
+@Factory
+public class MetricsConfig {
+
+    @Singleton
+    public MeterFilter connectionTimingHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("hikaricp.connections.")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentileHistogram(true)
+                        .percentiles(0.5, 0.99, 0.999)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.outbox")
+public class OutboxProperties {
+
+    private boolean relayEnabled = false;
+    private int batchSize = 500;
+    private Duration settleTime = Duration.ofSeconds(2);
+    private int maxPageSize = 1000;
+}
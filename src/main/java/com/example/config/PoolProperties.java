@@ -0,0 +1,16 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.pool")
+public class PoolProperties {
+
+    private boolean autoSize = true;
+    private int connectionsPerCore = 2;
+    private int minimumSize = 4;
+    private int maximumSize = 64;
+}
@@ -0,0 +1,18 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.query-timeout")
+public class QueryTimeoutProperties {
+
+    private Duration search = Duration.ofSeconds(5);
+    private Duration getById = Duration.ofSeconds(2);
+    private Duration lookup = Duration.ofSeconds(2);
+    private Duration sync = Duration.ofSeconds(5);
+}
@@ -0,0 +1,17 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.shared-cache")
+public class SharedCacheProperties {
+
+    private boolean enabled = false;
+    private long maximumSize = 100_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
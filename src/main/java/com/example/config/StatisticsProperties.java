@@ -0,0 +1,13 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.statistics")
+public class StatisticsProperties {
+
+    private boolean reconcileEnabled = true;
+}
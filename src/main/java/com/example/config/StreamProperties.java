@@ -0,0 +1,16 @@
+package com.example.config;
+
+import com.example.stream.OverflowPolicy;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.stream")
+public class StreamProperties {
+
+    private int bufferSize = 256;
+    private OverflowPolicy overflow = OverflowPolicy.DROP_OLDEST;
+    private int maxSubscribers = 1000;
+}
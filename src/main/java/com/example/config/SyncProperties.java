@@ -0,0 +1,16 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.sync")
+public class SyncProperties {
+
+    private int maxPageSize = 1000;
+    private Duration settleTime = Duration.ofSeconds(2);
+}
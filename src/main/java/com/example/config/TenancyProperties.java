@@ -0,0 +1,18 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.tenancy")
+public class TenancyProperties {
+
+    private String header = "X-Tenant-Id";
+    private String defaultTenant = "default";
+    private Set<String> tenants = Set.of("default");
+    private Set<String> trustedProxies = Set.of();
+}
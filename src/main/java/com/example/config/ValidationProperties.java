@@ -0,0 +1,14 @@
+package com.example.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.validation")
+public class ValidationProperties {
+
+    private boolean failFast = false;
+    private int errorCacheSize = 1024;
+}
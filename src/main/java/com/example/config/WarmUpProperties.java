@@ -0,0 +1,16 @@
+package com.example.config;
+
+import com.example.startup.WarmUpMode;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties("users.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = false;
+    private WarmUpMode mode = WarmUpMode.SYNTHETIC;
+    private int iterations = 200;
+}
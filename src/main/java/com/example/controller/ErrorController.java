@@ -1,31 +1,53 @@
 package com.example.controller;
 
+import com.example.cache.ErrorResponseCache;
+import com.example.codec.ContentNegotiation;
 import com.example.dto.ApiError;
+import com.example.exception.InvalidRequestException;
 import com.example.exception.NotFoundException;
+import com.example.exception.OverloadedException;
+import com.example.exception.QueryTimeoutException;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Error;
-import jakarta.validation.ConstraintViolation;
+import io.micronaut.http.annotation.Produces;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.stream.Collectors;
-
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
 import static com.example.dto.ErrorType.*;
+import static io.micronaut.http.HttpHeaders.RETRY_AFTER;
 import static io.micronaut.http.HttpStatus.*;
+import static io.micronaut.http.MediaType.APPLICATION_JSON;
 
+@Slf4j
 @Controller
+@Produces({APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE})
+@RequiredArgsConstructor
 public class ErrorController {
 
+    private final ErrorResponseCache errorResponseCache;
+
     @Error(exception = ConstraintViolationException.class, global = true)
-    public HttpResponse<ApiError> handleValidationException(ConstraintViolationException ex) {
+    public HttpResponse<byte[]> handleValidationException(HttpRequest<?> request, ConstraintViolationException ex) {
+        var mediaType = ContentNegotiation.negotiate(request);
+        return HttpResponse
+                .status(BAD_REQUEST)
+                .contentType(mediaType)
+                .body(errorResponseCache.validationError(mediaType, ex.getConstraintViolations()));
+    }
+
+    @Error(exception = InvalidRequestException.class, global = true)
+    public HttpResponse<ApiError> handleInvalidRequestException(InvalidRequestException ex) {
         return HttpResponse
                 .status(BAD_REQUEST)
                 .body(ApiError.builder()
                         .error(VALIDATION_ERROR)
-                        .message(ex.getConstraintViolations()
-                                .stream()
-                                .map(ConstraintViolation::getMessage)
-                                .collect(Collectors.joining(", ")))
+                        .message(ex.getMessage())
                         .build());
     }
 
@@ -39,13 +61,45 @@ public class ErrorController {
                         .build());
     }
 
+    @Error(exception = OverloadedException.class, global = true)
+    public HttpResponse<ApiError> handleOverloadedException(OverloadedException ex) {
+        return HttpResponse
+                .status(SERVICE_UNAVAILABLE)
+                .header(RETRY_AFTER, "1")
+                .body(ApiError.builder()
+                        .error(OVERLOADED_ERROR)
+                        .message(ex.getMessage())
+                        .build());
+    }
+
+    @Error(exception = QueryTimeoutException.class, global = true)
+    public HttpResponse<ApiError> handleQueryTimeoutException(QueryTimeoutException ex) {
+        return HttpResponse
+                .status(GATEWAY_TIMEOUT)
+                .body(ApiError.builder()
+                        .error(TIMEOUT_ERROR)
+                        .message(ex.getMessage())
+                        .build());
+    }
+
+    @Error(exception = ConversionErrorException.class, global = true)
+    public HttpResponse<ApiError> handleConversionErrorException(ConversionErrorException ex) {
+        return HttpResponse
+                .status(INTERNAL_SERVER_ERROR)
+                .body(ApiError.builder()
+                        .error(UNKNOWN_ERROR)
+                        .message(ex.getMessage())
+                        .build());
+    }
+
     @Error(global = true)
     public HttpResponse<ApiError> handleGenericException(Throwable ex) {
+        log.error("Unexpected error", ex);
         return HttpResponse
                 .status(INTERNAL_SERVER_ERROR)
                 .body(ApiError.builder()
                         .error(UNKNOWN_ERROR)
-                        .message(ex.getMessage())
+                        .message("Internal server error")
                         .build());
     }
 }
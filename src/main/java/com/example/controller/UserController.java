@@ -1,29 +1,56 @@
 package com.example.controller;
 
+import com.example.cache.SerializedResponseCache;
+import com.example.codec.ContentNegotiation;
 import com.example.dto.*;
+import com.example.outbox.ChangeOutbox;
 import com.example.service.UserService;
+import com.example.statistics.UserAgeStatistics;
+import com.example.stream.UserFeed;
+import com.example.tenant.TenantContext;
+import com.example.validation.RequestValidator;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
+import io.micronaut.http.sse.Event;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import jakarta.annotation.Nullable;
-import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
 
 import java.util.Set;
 import java.util.UUID;
 
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
+import static io.micronaut.http.MediaType.APPLICATION_JSON;
+
 @Controller("/users")
+@ExecuteOn(TaskExecutors.BLOCKING)
+@Produces({APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE})
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final SerializedResponseCache responseCache;
+    private final RequestValidator requestValidator;
+    private final ChangeOutbox changeOutbox;
+    private final UserFeed userFeed;
+    private final TenantContext tenantContext;
+    private final UserAgeStatistics userAgeStatistics;
 
     @Get
-    public CustomPage<UserDto> search(
+    public HttpResponse<byte[]> search(
             @QueryValue(value = "name") @Nullable String name,
             @QueryValue(value = "older_than") @Nullable Integer olderThan,
             @QueryValue(value = "types") @Nullable Set<UserType> types,
             @QueryValue(value = "gender") @Nullable Gender gender,
-            Pageable pageable
+            Pageable pageable,
+            HttpRequest<?> request
     ) {
         var req = SearchUsersReq.builder()
                 .name(name)
@@ -32,20 +59,77 @@ public class UserController {
                 .gender(gender)
                 .build();
 
-        return userService.search(req, pageable);
+        var mediaType = ContentNegotiation.negotiate(request);
+        return ok(mediaType, responseCache.search(req, pageable, mediaType, () -> userService.search(req, pageable)));
     }
 
     @Post
     public UserDto create(
-            @Body @Valid CreateUserReq req
+            @Body CreateUserReq req
     ) {
+        requestValidator.validate(req);
         return userService.create(req);
     }
 
-    @Get("/{id}")
-    public UserDto getById(
+    @Post("/lookup")
+    public LookupUsersRes lookup(
+            @Body LookupUsersReq req
+    ) {
+        requestValidator.validate(req);
+        return userService.lookup(req);
+    }
+
+    @Get("/changes")
+    public UserChangesRes changes(
+            @QueryValue(value = "since", defaultValue = "0") long since,
+            @QueryValue(value = "limit", defaultValue = "100") int limit
+    ) {
+        return changeOutbox.changesSince(since, limit);
+    }
+
+    @Get("/sync")
+    public UserSyncRes sync(
+            @QueryValue(value = "since") @Nullable String since,
+            @QueryValue(value = "limit", defaultValue = "500") int limit
+    ) {
+        return userService.sync(since, limit);
+    }
+
+    @Get("/statistics")
+    public UserStatisticsRes statistics(
+            @QueryValue(value = "types") @Nullable Set<UserType> types,
+            @QueryValue(value = "gender") @Nullable Gender gender,
+            @QueryValue(value = "older_than") @Nullable Integer olderThan
+    ) {
+        return userAgeStatistics.statistics(types, gender, olderThan);
+    }
+
+    @Get(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM)
+    public Publisher<Event<UserDto>> stream(
+            @QueryValue(value = "types") @Nullable Set<UserType> types,
+            @QueryValue(value = "gender") @Nullable Gender gender
+    ) {
+        return userFeed.subscribe(tenantContext.current(), types, gender);
+    }
+
+    @Delete("/{id}")
+    @Status(HttpStatus.NO_CONTENT)
+    public void delete(
             @PathVariable(name = "id") UUID id
     ) {
-        return userService.getById(id);
+        userService.delete(id);
+    }
+
+    @Get("/{id}")
+    public HttpResponse<byte[]> getById(
+            @PathVariable(name = "id") UUID id,
+            HttpRequest<?> request
+    ) {
+        var mediaType = ContentNegotiation.negotiate(request);
+        return ok(mediaType, responseCache.getById(id, mediaType, () -> userService.getById(id)));
+    }
+
+    private static HttpResponse<byte[]> ok(MediaType mediaType, byte[] body) {
+        return HttpResponse.ok(body).contentType(mediaType);
     }
 }
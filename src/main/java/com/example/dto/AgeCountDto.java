@@ -0,0 +1,14 @@
+package com.example.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import lombok.Builder;
+
+@Builder
+@Serdeable(naming = SnakeCaseStrategy.class)
+public record AgeCountDto(
+        int age,
+        int birthYear,
+        long count
+) {
+}
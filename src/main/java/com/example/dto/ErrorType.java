@@ -3,5 +3,8 @@ package com.example.dto;
 public enum ErrorType {
     VALIDATION_ERROR,
     UNKNOWN_ERROR,
-    NOT_FOUND_ERROR
+    NOT_FOUND_ERROR,
+    RATE_LIMIT_ERROR,
+    OVERLOADED_ERROR,
+    TIMEOUT_ERROR
 }
@@ -0,0 +1,20 @@
+package com.example.dto;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Introspected
+@Serdeable(naming = SnakeCaseStrategy.class)
+@Builder
+public record LookupUsersReq(
+        @NotEmpty(message = "Ids are mandatory")
+        List<@NotNull(message = "Ids must not be null") UUID> ids
+) {
+}
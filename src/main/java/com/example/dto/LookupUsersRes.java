@@ -0,0 +1,16 @@
+package com.example.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Serdeable(naming = SnakeCaseStrategy.class)
+public record LookupUsersRes(
+        List<UserDto> results,
+        List<UUID> missingIds
+) {
+}
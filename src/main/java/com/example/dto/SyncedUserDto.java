@@ -0,0 +1,18 @@
+package com.example.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+@Serdeable(naming = SnakeCaseStrategy.class)
+public record SyncedUserDto(
+        UUID id,
+        boolean deleted,
+        Instant updatedAt,
+        UserDto user
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Serdeable(naming = SnakeCaseStrategy.class)
+public record UserStatisticsRes(
+        long total,
+        Long olderThanCount,
+        List<AgeCountDto> ages
+) {
+}
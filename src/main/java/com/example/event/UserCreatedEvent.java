@@ -0,0 +1,9 @@
+package com.example.event;
+
+import com.example.dto.UserDto;
+
+public record UserCreatedEvent(
+        String tenantId,
+        UserDto user
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.event;
+
+import java.util.UUID;
+
+public record UserDeletedEvent(
+        String tenantId,
+        UUID id
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.exception;
+
+public class OverloadedException extends RuntimeException {
+
+    public OverloadedException(String message) {
+        super(message);
+    }
+}
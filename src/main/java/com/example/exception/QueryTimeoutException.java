@@ -0,0 +1,8 @@
+package com.example.exception;
+
+public class QueryTimeoutException extends RuntimeException {
+
+    public QueryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
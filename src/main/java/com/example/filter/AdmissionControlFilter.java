@@ -0,0 +1,116 @@
+package com.example.filter;
+
+import com.example.config.AdmissionProperties;
+import com.example.dto.ApiError;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.crac.OrderedResource;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import org.crac.Context;
+import org.crac.Resource;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import static com.example.dto.ErrorType.OVERLOADED_ERROR;
+import static com.example.dto.ErrorType.RATE_LIMIT_ERROR;
+import static com.example.tenant.TenantContext.TENANT_ATTRIBUTE;
+import static io.micronaut.http.HttpHeaders.RETRY_AFTER;
+import static io.micronaut.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static io.micronaut.http.HttpStatus.TOO_MANY_REQUESTS;
+
+@ServerFilter({"/users", "/users/**"})
+public class AdmissionControlFilter implements OrderedResource {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlFilter.class.getName() + ".permit";
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<RouteClass, Semaphore> permits = new EnumMap<>(RouteClass.class);
+    private volatile boolean suspended;
+
+    public AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleClientExpiry())
+                .build();
+        this.suspended = properties.isSuspendUntilRestore();
+        for (RouteClass routeClass : RouteClass.values()) {
+            permits.put(routeClass, new Semaphore(routeClass == RouteClass.EXPENSIVE_SEARCH
+                    ? properties.getMaxConcurrentExpensiveSearches()
+                    : properties.getMaxConcurrentRequests()));
+        }
+    }
+
+    @Nullable
+    @RequestFilter
+    public HttpResponse<ApiError> admit(HttpRequest<?> request) {
+        if (!properties.isEnabled() || suspended) {
+            return null;
+        }
+
+        var tenant = request.getAttribute(TENANT_ATTRIBUTE, String.class).orElse("");
+        var routeClass = RouteClass.of(request);
+        var cost = routeClass == RouteClass.EXPENSIVE_SEARCH ? properties.getExpensiveSearchCost() : 1;
+        var bucket = buckets.get(clientKey(tenant, request), key -> new TokenBucket(properties.getCapacity(), properties.getRefillPerSecond()));
+        if (!bucket.tryConsume(cost)) {
+            return shed(tenant, routeClass, TOO_MANY_REQUESTS, ApiError.builder()
+                    .error(RATE_LIMIT_ERROR)
+                    .message("Rate limit exceeded")
+                    .build());
+        }
+
+        if (!permits.get(routeClass).tryAcquire()) {
+            return shed(tenant, routeClass, SERVICE_UNAVAILABLE, ApiError.builder()
+                    .error(OVERLOADED_ERROR)
+                    .message("Too many concurrent requests")
+                    .build());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, routeClass);
+        return null;
+    }
+
+    @ResponseFilter
+    public void release(HttpRequest<?> request) {
+        request.removeAttribute(PERMIT_ATTRIBUTE, RouteClass.class)
+                .ifPresent(routeClass -> permits.get(routeClass).release());
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        suspended = false;
+    }
+
+    private String clientKey(String tenant, HttpRequest<?> request) {
+        var remoteAddress = request.getRemoteAddress().getAddress().getHostAddress();
+        var clientId = properties.getTrustedProxies().contains(remoteAddress)
+                ? request.getHeaders().get(properties.getClientIdHeader())
+                : null;
+        return tenant + ":" + (clientId != null ? clientId : remoteAddress);
+    }
+
+    private HttpResponse<ApiError> shed(String tenant, RouteClass routeClass, HttpStatus status, ApiError error) {
+        meterRegistry.counter("users.requests.shed",
+                "tenant", tenant,
+                "route", routeClass.name(),
+                "reason", error.error().name()).increment();
+        return HttpResponse.status(status)
+                .header(RETRY_AFTER, "1")
+                .body(error);
+    }
+}
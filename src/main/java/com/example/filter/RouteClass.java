@@ -0,0 +1,46 @@
+package com.example.filter;
+
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+
+enum RouteClass {
+    SEARCH,
+    EXPENSIVE_SEARCH,
+    GET_BY_ID,
+    LOOKUP,
+    CHANGES,
+    SYNC,
+    STREAM,
+    STATISTICS,
+    CREATE,
+    DELETE;
+
+    static RouteClass of(HttpRequest<?> request) {
+        var path = request.getPath();
+        if (path.equals("/users") || path.equals("/users/")) {
+            if (request.getMethod() == HttpMethod.POST) {
+                return CREATE;
+            }
+            var params = request.getParameters();
+            return params.contains("older_than") || params.contains("types") || params.contains("gender")
+                    ? SEARCH
+                    : EXPENSIVE_SEARCH;
+        }
+        if (request.getMethod() == HttpMethod.DELETE) {
+            return DELETE;
+        }
+        if (path.equals("/users/changes")) {
+            return CHANGES;
+        }
+        if (path.equals("/users/sync")) {
+            return SYNC;
+        }
+        if (path.equals("/users/stream")) {
+            return STREAM;
+        }
+        if (path.equals("/users/statistics")) {
+            return STATISTICS;
+        }
+        return path.equals("/users/lookup") ? LOOKUP : GET_BY_ID;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.filter;
+
+import com.example.config.TenancyProperties;
+import com.example.dto.ApiError;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.RequiredArgsConstructor;
+
+import static com.example.dto.ErrorType.VALIDATION_ERROR;
+import static com.example.tenant.TenantContext.TENANT_ATTRIBUTE;
+
+@ServerFilter({"/users", "/users/**"})
+@RequiredArgsConstructor
+public class TenantFilter implements Ordered {
+
+    private final TenancyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Nullable
+    @RequestFilter
+    public HttpResponse<ApiError> resolve(HttpRequest<?> request) {
+        var tenant = request.getHeaders().get(properties.getHeader());
+        if (tenant == null) {
+            tenant = properties.getDefaultTenant();
+        } else if (!properties.getTrustedProxies().contains(request.getRemoteAddress().getAddress().getHostAddress())) {
+            return badRequest("Tenant header is only accepted from trusted proxies");
+        } else if (!properties.getTenants().contains(tenant)) {
+            return badRequest("Unknown tenant");
+        }
+        request.setAttribute(TENANT_ATTRIBUTE, tenant);
+        return null;
+    }
+
+    @ResponseFilter
+    public void record(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        request.getAttribute(TENANT_ATTRIBUTE, String.class)
+                .ifPresent(tenant -> meterRegistry.counter("users.tenant.requests",
+                        "tenant", tenant,
+                        "status", String.valueOf(response.code())).increment());
+    }
+
+    private static HttpResponse<ApiError> badRequest(String message) {
+        return HttpResponse.badRequest(ApiError.builder()
+                .error(VALIDATION_ERROR)
+                .message(message)
+                .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
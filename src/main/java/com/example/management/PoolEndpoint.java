@@ -0,0 +1,49 @@
+package com.example.management;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@Endpoint(id = "pool", defaultSensitive = false)
+public class PoolEndpoint {
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    public PoolEndpoint(DataSource dataSource, MeterRegistry meterRegistry) throws SQLException {
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Read
+    public PoolStats stats() {
+        var pool = dataSource.getHikariPoolMXBean();
+        var acquire = timer("hikaricp.connections.acquire");
+        var usage = timer("hikaricp.connections.usage");
+        return PoolStats.builder()
+                .pool(dataSource.getPoolName())
+                .active(pool.getActiveConnections())
+                .idle(pool.getIdleConnections())
+                .pending(pool.getThreadsAwaitingConnection())
+                .total(pool.getTotalConnections())
+                .maximumPoolSize(dataSource.getMaximumPoolSize())
+                .leakDetectionThresholdMs(dataSource.getLeakDetectionThreshold())
+                .acquireMeanMs(acquire == null ? 0 : acquire.mean(TimeUnit.MILLISECONDS))
+                .acquireMaxMs(acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS))
+                .usageMeanMs(usage == null ? 0 : usage.mean(TimeUnit.MILLISECONDS))
+                .usageMaxMs(usage == null ? 0 : usage.max(TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.find(name)
+                .tag("pool", dataSource.getPoolName())
+                .timer();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.management;
+
+import io.micronaut.serde.annotation.Serdeable;
+import io.micronaut.serde.config.naming.SnakeCaseStrategy;
+import lombok.Builder;
+
+@Builder
+@Serdeable(naming = SnakeCaseStrategy.class)
+public record PoolStats(
+        String pool,
+        int active,
+        int idle,
+        int pending,
+        int total,
+        int maximumPoolSize,
+        long leakDetectionThresholdMs,
+        double acquireMeanMs,
+        double acquireMaxMs,
+        double usageMeanMs,
+        double usageMaxMs
+) {
+}
@@ -0,0 +1,97 @@
+package com.example.outbox;
+
+import com.example.config.OutboxProperties;
+import com.example.dto.ChangeType;
+import com.example.dto.UserChangeDto;
+import com.example.dto.UserChangesRes;
+import com.example.dto.UserDto;
+import com.example.exception.InvalidRequestException;
+import com.example.persistence.model.UserChange;
+import com.example.persistence.repository.UserChangeRepository;
+import com.example.tenant.TenantContext;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+@Singleton
+@RequiredArgsConstructor
+public class ChangeOutbox {
+
+    private final UserChangeRepository userChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final OutboxProperties properties;
+    private final TenantContext tenantContext;
+
+    public void record(String tenantId, ChangeType type, UUID userId, UserDto user) {
+        var change = new UserChange();
+        change.setTenantId(tenantId);
+        change.setType(type);
+        change.setUserId(userId);
+        change.setPayload(user == null ? null : write(user));
+        change.setOccurredAt(clock.instant());
+
+        userChangeRepository.save(change);
+    }
+
+    public UserChangesRes changesSince(long since, int limit) {
+        if (limit <= 0) {
+            throw new InvalidRequestException("Limit must be positive");
+        }
+
+        var settledBefore = clock.instant().minus(properties.getSettleTime());
+        var changes = userChangeRepository.findByTenantIdAndIdGreaterThanAndOccurredAtLessThanEquals(tenantContext.current(), since, settledBefore,
+                        Pageable.from(0, Math.min(limit, properties.getMaxPageSize()), bySequence()))
+                .stream()
+                .map(this::toDto)
+                .toList();
+
+        return UserChangesRes.builder()
+                .changes(changes)
+                .nextCursor(changes.isEmpty() ? since : changes.getLast().sequence())
+                .build();
+    }
+
+    List<UserChange> unpublished() {
+        return userChangeRepository.findByPublishedAtIsNull(Pageable.from(0, properties.getBatchSize(), bySequence()));
+    }
+
+    UserChangeDto toDto(UserChange change) {
+        return UserChangeDto.builder()
+                .sequence(change.getId())
+                .tenantId(change.getTenantId())
+                .type(change.getType())
+                .userId(change.getUserId())
+                .occurredAt(change.getOccurredAt())
+                .user(change.getPayload() == null ? null : read(change.getPayload()))
+                .build();
+    }
+
+    private static Sort bySequence() {
+        return Sort.of(Sort.Order.asc("id"));
+    }
+
+    private String write(UserDto user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UserDto read(String payload) {
+        try {
+            return objectMapper.readValue(payload, UserDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
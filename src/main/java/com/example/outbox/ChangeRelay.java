@@ -0,0 +1,44 @@
+package com.example.outbox;
+
+import com.example.persistence.model.UserChange;
+import com.example.persistence.repository.UserChangeRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+
+@Singleton
+@Requires(property = "users.outbox.relay-enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+@RequiredArgsConstructor
+public class ChangeRelay {
+
+    private final ChangeOutbox changeOutbox;
+    private final UserChangeRepository userChangeRepository;
+    private final ChangeSink changeSink;
+    private final Clock clock;
+
+    @Scheduled(fixedDelay = "${users.outbox.relay-interval}", initialDelay = "${users.outbox.relay-interval}")
+    @Transactional
+    public int relay() {
+        var batch = changeOutbox.unpublished();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        changeSink.publish(batch.stream()
+                .map(changeOutbox::toDto)
+                .toList());
+
+        var publishedAt = clock.instant();
+        for (UserChange change : batch) {
+            change.setPublishedAt(publishedAt);
+        }
+        userChangeRepository.updateAll(batch);
+
+        return batch.size();
+    }
+}
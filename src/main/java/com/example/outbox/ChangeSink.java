@@ -0,0 +1,10 @@
+package com.example.outbox;
+
+import com.example.dto.UserChangeDto;
+
+import java.util.List;
+
+public interface ChangeSink {
+
+    void publish(List<UserChangeDto> changes);
+}
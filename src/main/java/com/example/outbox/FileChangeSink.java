@@ -0,0 +1,45 @@
+package com.example.outbox;
+
+import com.example.dto.UserChangeDto;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+@Singleton
+@Requires(property = "users.outbox.sink", value = "file")
+public class FileChangeSink implements ChangeSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileChangeSink(ObjectMapper objectMapper, @Value("${users.outbox.file}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<UserChangeDto> changes) {
+        try {
+            var lines = new StringBuilder();
+            for (UserChangeDto change : changes) {
+                lines.append(objectMapper.writeValueAsString(change)).append('\n');
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, lines, CREATE, APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.outbox;
+
+import com.example.dto.UserChangeDto;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+@Singleton
+@Requires(property = "users.outbox.sink", value = "memory", defaultValue = "memory")
+public class InMemoryChangeSink implements ChangeSink {
+
+    private static final int CAPACITY = 10_000;
+
+    private final Deque<UserChangeDto> published = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void publish(List<UserChangeDto> changes) {
+        published.addAll(changes);
+        while (published.size() > CAPACITY) {
+            published.pollFirst();
+        }
+    }
+
+    public List<UserChangeDto> getPublished() {
+        return new ArrayList<>(published);
+    }
+}
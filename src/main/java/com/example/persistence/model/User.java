@@ -2,6 +2,7 @@ package com.example.persistence.model;
 
 import com.example.dto.Gender;
 import com.example.dto.UserType;
+import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.data.annotation.Where;
 import io.micronaut.serde.annotation.Serdeable;
 import jakarta.persistence.*;
@@ -9,6 +10,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -16,11 +18,18 @@ import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.UUID;
 
 @Serdeable
+@ReflectiveAccess
 @Getter
 @Setter
 @EqualsAndHashCode
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_tenant_id", columnList = "tenant_id, id"),
+        @Index(name = "idx_users_tenant_name", columnList = "tenant_id, name, id"),
+        @Index(name = "idx_users_tenant_birthdate", columnList = "tenant_id, birthdate, id"),
+        @Index(name = "idx_users_tenant_created_at", columnList = "tenant_id, created_at, id"),
+        @Index(name = "idx_users_tenant_updated_at", columnList = "tenant_id, updated_at, id")
+})
 @Where("@.enabled = true")
 public class User {
 
@@ -29,6 +38,9 @@ public class User {
     @Column(name = "id")
     private UUID id;
 
+    @Column(name = "tenant_id", columnDefinition = "varchar(63) default 'default' not null")
+    private String tenantId;
+
     @Column(name = "name")
     private String name;
 
@@ -48,4 +60,10 @@ public class User {
 
     @Column(name = "enabled")
     private boolean enabled = true;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
@@ -0,0 +1,43 @@
+package com.example.persistence.model;
+
+import com.example.dto.Gender;
+import com.example.dto.UserType;
+import io.micronaut.core.annotation.ReflectiveAccess;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+@ReflectiveAccess
+@Getter
+@Setter
+@Entity
+@Table(name = "user_age_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_age_buckets", columnNames = {"tenant_id", "birth_year", "type", "gender"})
+})
+public class UserAgeBucket {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, length = 63)
+    private String tenantId;
+
+    @Column(name = "birth_year", nullable = false)
+    private int birthYear;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(STRING)
+    private UserType type;
+
+    @Column(name = "gender", nullable = false)
+    @Enumerated(STRING)
+    private Gender gender;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+}
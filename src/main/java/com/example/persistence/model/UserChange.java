@@ -0,0 +1,48 @@
+package com.example.persistence.model;
+
+import com.example.dto.ChangeType;
+import io.micronaut.core.annotation.ReflectiveAccess;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+@ReflectiveAccess
+@Getter
+@Setter
+@Entity
+@Table(name = "user_changes", indexes = {
+        @Index(name = "idx_user_changes_unpublished", columnList = "published_at, id"),
+        @Index(name = "idx_user_changes_tenant", columnList = "tenant_id, id")
+})
+public class UserChange {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tenant_id", columnDefinition = "varchar(63) default 'default' not null")
+    private String tenantId;
+
+    @Column(name = "type")
+    @Enumerated(STRING)
+    private ChangeType type;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "payload", columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "occurred_at")
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
@@ -0,0 +1,34 @@
+package com.example.persistence.repository;
+
+import com.example.dto.Gender;
+import com.example.dto.UserType;
+import com.example.persistence.model.UserAgeBucket;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserAgeBucketRepository extends CrudRepository<UserAgeBucket, Long> {
+
+    List<UserAgeBucket> findByTenantId(String tenantId);
+
+    @Query("""
+            UPDATE UserAgeBucket b SET b.userCount = b.userCount + :delta
+            WHERE b.tenantId = :tenantId AND b.birthYear = :birthYear AND b.type = :type AND b.gender = :gender""")
+    int increment(String tenantId, int birthYear, UserType type, Gender gender, long delta);
+
+    @Query(value = """
+            INSERT INTO user_age_buckets (tenant_id, birth_year, type, gender, user_count)
+            VALUES (:tenantId, :birthYear, :type, :gender, 0)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    void insertIfAbsent(String tenantId, int birthYear, String type, String gender);
+
+    @Query(value = """
+            SELECT * FROM user_age_buckets
+            WHERE tenant_id = :tenantId AND birth_year = :birthYear AND type = :type AND gender = :gender
+            FOR UPDATE""", nativeQuery = true)
+    Optional<UserAgeBucket> findForUpdate(String tenantId, int birthYear, String type, String gender);
+}
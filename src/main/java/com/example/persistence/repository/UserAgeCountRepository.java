@@ -0,0 +1,46 @@
+package com.example.persistence.repository;
+
+import com.example.dto.Gender;
+import com.example.dto.UserType;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Singleton
+@RequiredArgsConstructor
+public class UserAgeCountRepository {
+
+    private static final String COUNT_BY_BIRTH_YEAR = """
+            select u.tenantId, year(u.birthdate), u.type, u.gender, count(u)
+            from User u
+            where u.enabled = true and u.birthdate is not null and u.type is not null and u.gender is not null
+            group by u.tenantId, year(u.birthdate), u.type, u.gender""";
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public List<AgeCount> countEnabledByBirthYear() {
+        return entityManager.createQuery(COUNT_BY_BIRTH_YEAR, Object[].class)
+                .getResultList()
+                .stream()
+                .map(row -> new AgeCount(
+                        (String) row[0],
+                        ((Number) row[1]).intValue(),
+                        (UserType) row[2],
+                        (Gender) row[3],
+                        ((Number) row[4]).longValue()))
+                .toList();
+    }
+
+    public record AgeCount(
+            String tenantId,
+            int birthYear,
+            UserType type,
+            Gender gender,
+            long count
+    ) {
+    }
+}
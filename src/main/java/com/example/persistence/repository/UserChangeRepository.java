@@ -0,0 +1,17 @@
+package com.example.persistence.repository;
+
+import com.example.persistence.model.UserChange;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserChangeRepository extends CrudRepository<UserChange, Long> {
+
+    List<UserChange> findByTenantIdAndIdGreaterThanAndOccurredAtLessThanEquals(String tenantId, long id, Instant occurredAt, Pageable pageable);
+
+    List<UserChange> findByPublishedAtIsNull(Pageable pageable);
+}
@@ -1,13 +1,35 @@
 package com.example.persistence.repository;
 
+import com.example.dto.Gender;
+import com.example.dto.UserType;
 import com.example.persistence.model.User;
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.repository.CrudRepository;
 import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends CrudRepository<User, UUID>, JpaSpecificationExecutor<User> {
 
+    Optional<User> findByIdAndTenantId(UUID id, String tenantId);
+
+    List<User> findByIdInAndTenantId(Collection<UUID> ids, String tenantId);
+
+    long countByTenantIdAndTypeAndGenderAndBirthdateBetween(String tenantId, UserType type, Gender gender, LocalDate from, LocalDate to);
+
+    @Query(value = """
+            SELECT * FROM users
+            WHERE tenant_id = :tenantId
+              AND (updated_at > :updatedAt OR (updated_at = :updatedAt AND id > :id))
+              AND updated_at <= :settledBefore
+            ORDER BY updated_at, id
+            LIMIT :limit""", nativeQuery = true)
+    List<User> findChangedSince(String tenantId, Instant updatedAt, UUID id, Instant settledBefore, int limit);
 }
@@ -0,0 +1,36 @@
+package com.example.persistence.repository;
+
+import com.example.dto.SearchUsersReq;
+import com.example.persistence.model.User;
+import com.example.persistence.specification.UserSearchTemplate;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Singleton
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private final EntityManager entityManager;
+    private final Clock clock;
+
+    public Page<User> search(UserSearchTemplate template, String tenantId, SearchUsersReq req, Pageable pageable) {
+        var today = LocalDate.now(clock);
+
+        var query = template.bind(entityManager.createQuery(template.getSelectQuery(), User.class), tenantId, req, today);
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()))
+                    .setMaxResults(pageable.getSize());
+        }
+        var users = query.getResultList();
+        var total = template.bind(entityManager.createQuery(template.getCountQuery(), Long.class), tenantId, req, today)
+                .getSingleResult();
+
+        return Page.of(users, pageable, total);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.persistence.specification;
+
+import com.example.dto.SearchUsersReq;
+import com.example.exception.InvalidRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.data.model.Sort;
+import jakarta.inject.Singleton;
+
+import java.util.Set;
+
+@Singleton
+public class UserSearchCompiler {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "birthdate", "createdAt");
+    private static final String DEFAULT_ORDER_BY = " order by u.id asc";
+
+    private final Cache<TemplateKey, UserSearchTemplate> templates = Caffeine.newBuilder()
+            .maximumSize(1024)
+            .build();
+
+    public UserSearchTemplate compile(SearchUsersReq req, Sort sort) {
+        var key = new TemplateKey(UserSearchTemplate.filtersOf(req), orderBy(sort));
+        return templates.get(key, k -> new UserSearchTemplate(k.filters(), k.orderBy()));
+    }
+
+    private static String orderBy(Sort sort) {
+        if (!sort.isSorted()) {
+            return DEFAULT_ORDER_BY;
+        }
+        if (sort.getOrderBy().size() > 1) {
+            throw new InvalidRequestException("Only one sort property is supported");
+        }
+        var order = sort.getOrderBy().getFirst();
+        if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new InvalidRequestException("Unsupported sort property: " + order.getProperty());
+        }
+        if (order.isIgnoreCase()) {
+            throw new InvalidRequestException("Case insensitive sorting is not supported");
+        }
+        var direction = order.isAscending() ? " asc" : " desc";
+        return " order by u." + order.getProperty() + direction + ", u.id" + direction;
+    }
+
+    private record TemplateKey(
+            int filters,
+            String orderBy
+    ) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.persistence.specification;
+
+import com.example.dto.SearchUsersReq;
+import jakarta.persistence.Query;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+public final class UserSearchTemplate {
+
+    static final int NAME = 1;
+    static final int OLDER_THAN = 1 << 1;
+    static final int TYPES = 1 << 2;
+    static final int GENDER = 1 << 3;
+
+    private final int filters;
+    private final String selectQuery;
+    private final String countQuery;
+
+    UserSearchTemplate(int filters, String orderBy) {
+        this.filters = filters;
+        var where = new StringBuilder(" where u.tenantId = :tenantId and u.enabled = true");
+        if (has(NAME)) {
+            where.append(" and u.name like :name");
+        }
+        if (has(OLDER_THAN)) {
+            where.append(" and u.birthdate < :bornBefore");
+        }
+        if (has(TYPES)) {
+            where.append(" and u.type in :types");
+        }
+        if (has(GENDER)) {
+            where.append(" and u.gender = :gender");
+        }
+        this.selectQuery = "select u from User u" + where + orderBy;
+        this.countQuery = "select count(u) from User u" + where;
+    }
+
+    static int filtersOf(SearchUsersReq req) {
+        var filters = 0;
+        if (req.name() != null && !req.name().isEmpty()) {
+            filters |= NAME;
+        }
+        if (req.olderThan() != null) {
+            filters |= OLDER_THAN;
+        }
+        if (req.types() != null && !req.types().isEmpty()) {
+            filters |= TYPES;
+        }
+        if (req.gender() != null) {
+            filters |= GENDER;
+        }
+        return filters;
+    }
+
+    public String getSelectQuery() {
+        return selectQuery;
+    }
+
+    public String getCountQuery() {
+        return countQuery;
+    }
+
+    public <Q extends Query> Q bind(Q query, String tenantId, SearchUsersReq req, LocalDate today) {
+        query.setParameter("tenantId", tenantId);
+        if (has(NAME)) {
+            query.setParameter("name", "%" + req.name() + "%");
+        }
+        if (has(OLDER_THAN)) {
+            query.setParameter("bornBefore", today.minus(Period.ofYears(req.olderThan())));
+        }
+        if (has(TYPES)) {
+            query.setParameter("types", req.types());
+        }
+        if (has(GENDER)) {
+            query.setParameter("gender", req.gender());
+        }
+        return query;
+    }
+
+    private boolean has(int filter) {
+        return (filters & filter) != 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.service;
+
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+final class CancellationScope {
+
+    private static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger clients = new AtomicInteger();
+    private volatile Runnable onAbandoned;
+    private volatile boolean abandoned;
+
+    static CancellationScope current() {
+        return CURRENT.get();
+    }
+
+    <T> T run(Supplier<T> body) {
+        var previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    Registration join() {
+        clients.incrementAndGet();
+        return listen();
+    }
+
+    Registration tryJoin() {
+        int current;
+        do {
+            current = clients.get();
+            if (current == 0) {
+                return null;
+            }
+        } while (!clients.compareAndSet(current, current + 1));
+        return listen();
+    }
+
+    Registration onAbandoned(Runnable action) {
+        onAbandoned = action;
+        if (abandoned) {
+            action.run();
+        }
+        return () -> onAbandoned = null;
+    }
+
+    private Registration listen() {
+        var closeFuture = clientCloseFuture();
+        if (closeFuture == null) {
+            return () -> {
+            };
+        }
+        ChannelFutureListener leave = future -> leave();
+        closeFuture.addListener(leave);
+        return () -> closeFuture.removeListener(leave);
+    }
+
+    private void leave() {
+        if (clients.decrementAndGet() == 0) {
+            abandoned = true;
+            var action = onAbandoned;
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    private static ChannelFuture clientCloseFuture() {
+        return ServerRequestContext.currentRequest()
+                .filter(NettyHttpRequest.class::isInstance)
+                .map(request -> ((NettyHttpRequest<?>) request).getChannelHandlerContext().channel().closeFuture())
+                .orElse(null);
+    }
+
+    interface Registration extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
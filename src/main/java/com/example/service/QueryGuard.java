@@ -0,0 +1,59 @@
+package com.example.service;
+
+import com.example.exception.QueryTimeoutException;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Singleton
+@RequiredArgsConstructor
+public class QueryGuard {
+
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <T> T execute(Duration timeout, Supplier<T> query) {
+        var session = entityManager.unwrap(Session.class);
+        session.setProperty(QUERY_TIMEOUT_HINT, Math.toIntExact(timeout.toMillis()));
+
+        var scope = CancellationScope.current();
+        if (scope != null) {
+            return run(scope, session, timeout, query);
+        }
+        scope = new CancellationScope();
+        try (var ignored = scope.join()) {
+            return run(scope, session, timeout, query);
+        }
+    }
+
+    private static <T> T run(CancellationScope scope, Session session, Duration timeout, Supplier<T> query) {
+        try (var ignored = scope.onAbandoned(session::cancelQuery)) {
+            return query.get();
+        } catch (RuntimeException e) {
+            if (isQueryCanceled(e)) {
+                throw new QueryTimeoutException("Query exceeded the %d ms deadline".formatted(timeout.toMillis()), e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isQueryCanceled(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof org.hibernate.QueryTimeoutException
+                    || cause instanceof SQLException sqlException && QUERY_CANCELED_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.service;
+
+import com.example.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Singleton
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final TenantContext tenantContext;
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        var flightKey = new FlightKey(operation, key);
+        while (true) {
+            var flight = new Flight();
+            var leader = flight.scope.join();
+            var existing = inFlight.putIfAbsent(flightKey, flight);
+            if (existing == null) {
+                return lead(flightKey, flight, leader, loader);
+            }
+            leader.close();
+            try (var follower = existing.scope.tryJoin()) {
+                if (follower != null) {
+                    meterRegistry.counter("users.requests.coalesced", "operation", operation, "tenant", tenantContext.current()).increment();
+                    return (T) await(existing.result);
+                }
+            }
+            inFlight.remove(flightKey, existing);
+        }
+    }
+
+    private <T> T lead(FlightKey flightKey, Flight flight, CancellationScope.Registration leader, Supplier<T> loader) {
+        try (leader) {
+            T value = flight.scope.run(loader);
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final CancellationScope scope = new CancellationScope();
+    }
+
+    private record FlightKey(
+            String operation,
+            Object key
+    ) {
+    }
+}
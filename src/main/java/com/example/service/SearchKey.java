@@ -0,0 +1,43 @@
+package com.example.service;
+
+import com.example.dto.Gender;
+import com.example.dto.SearchUsersReq;
+import com.example.dto.UserType;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record SearchKey(
+        String tenantId,
+        String name,
+        Integer olderThan,
+        Set<UserType> types,
+        Gender gender,
+        int page,
+        int size,
+        String sort
+) {
+
+    public static SearchKey of(String tenantId, SearchUsersReq req, Pageable pageable) {
+        return new SearchKey(
+                tenantId,
+                req.name() == null || req.name().isEmpty() ? null : req.name(),
+                req.olderThan(),
+                req.types() == null || req.types().isEmpty() ? null : EnumSet.copyOf(req.types()),
+                req.gender(),
+                pageable.getNumber(),
+                pageable.getSize(),
+                pageable.getSort()
+                        .getOrderBy()
+                        .stream()
+                        .map(SearchKey::describe)
+                        .collect(Collectors.joining(",")));
+    }
+
+    private static String describe(Sort.Order order) {
+        return order.getProperty() + ":" + order.getDirection() + ":" + order.isIgnoreCase();
+    }
+}
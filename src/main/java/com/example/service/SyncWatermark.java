@@ -0,0 +1,34 @@
+package com.example.service;
+
+import com.example.exception.InvalidRequestException;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record SyncWatermark(
+        Instant updatedAt,
+        UUID id
+) {
+
+    public static final SyncWatermark INITIAL = new SyncWatermark(Instant.EPOCH, new UUID(0, 0));
+
+    public static SyncWatermark parse(String watermark) {
+        if (watermark == null || watermark.isEmpty()) {
+            return INITIAL;
+        }
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(watermark), UTF_8).split("\\|");
+            return new SyncWatermark(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid watermark");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((updatedAt + "|" + id).getBytes(UTF_8));
+    }
+}
@@ -1,58 +1,171 @@
 package com.example.service;
 
-import com.example.dto.CreateUserReq;
-import com.example.dto.CustomPage;
-import com.example.dto.SearchUsersReq;
-import com.example.dto.UserDto;
+import com.example.cache.UserCache;
+import com.example.config.LookupProperties;
+import com.example.config.QueryTimeoutProperties;
+import com.example.config.SyncProperties;
+import com.example.dto.*;
+import com.example.event.UserCreatedEvent;
+import com.example.event.UserDeletedEvent;
+import com.example.exception.InvalidRequestException;
 import com.example.exception.NotFoundException;
+import com.example.outbox.ChangeOutbox;
 import com.example.persistence.model.User;
 import com.example.persistence.repository.UserRepository;
+import com.example.persistence.repository.UserSearchRepository;
+import com.example.persistence.specification.UserSearchCompiler;
+import com.example.statistics.UserAgeStatistics;
+import com.example.tenant.TenantContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Pageable;
-import io.micronaut.data.repository.jpa.criteria.QuerySpecification;
+import io.micronaut.transaction.annotation.Transactional;
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.UUID;
 
-import static com.example.persistence.specification.UserSpecification.*;
-
 @Singleton
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserSearchRepository userSearchRepository;
+    private final UserSearchCompiler userSearchCompiler;
     private final Clock clock;
+    private final ApplicationEventPublisher<UserCreatedEvent> userCreatedPublisher;
+    private final ApplicationEventPublisher<UserDeletedEvent> userDeletedPublisher;
+    private final UserCache userCache;
+    private final LookupProperties lookupProperties;
+    private final RequestCoalescer requestCoalescer;
+    private final QueryGuard queryGuard;
+    private final QueryTimeoutProperties queryTimeouts;
+    private final ChangeOutbox changeOutbox;
+    private final SyncProperties syncProperties;
+    private final TenantContext tenantContext;
+    private final UserAgeStatistics userAgeStatistics;
 
+    @Transactional
     public UserDto create(CreateUserReq req) {
+        var tenantId = tenantContext.current();
         User user = new User();
+        user.setTenantId(tenantId);
         user.setName(req.name());
         user.setEmail(req.email());
         user.setBirthdate(req.birthdate());
         user.setGender(req.gender());
         user.setType(req.type());
+        user.setCreatedAt(clock.instant());
+        user.setUpdatedAt(user.getCreatedAt());
 
         user = userRepository.save(user);
 
-        return toDto(user);
+        var dto = toDto(user);
+        changeOutbox.record(tenantId, ChangeType.CREATED, dto.id(), dto);
+        userAgeStatistics.record(user, 1);
+        userCreatedPublisher.publishEvent(new UserCreatedEvent(tenantId, dto));
+
+        return dto;
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        var tenantId = tenantContext.current();
+        var user = userRepository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        user.setEnabled(false);
+        user.setUpdatedAt(clock.instant());
+
+        userRepository.update(user);
+        changeOutbox.record(tenantId, ChangeType.DELETED, id, null);
+        userAgeStatistics.record(user, -1);
+
+        userDeletedPublisher.publishEvent(new UserDeletedEvent(tenantId, id));
     }
 
     public CustomPage<UserDto> search(SearchUsersReq req, Pageable pageable) {
-        var spec = QuerySpecification.where(nameLike(req.name()))
-                .and(olderThan(req.olderThan(), clock))
-                .and(typeIn(req.types()))
-                .and(genderEquals(req.gender()))
-                .and(isEnabled(true));
+        var tenantId = tenantContext.current();
+        var template = userSearchCompiler.compile(req, pageable.getSort());
 
-        var page = userRepository.findAll(spec, pageable).map(this::toDto);
+        return requestCoalescer.execute("search", SearchKey.of(tenantId, req, pageable), () -> {
+            var page = queryGuard.execute(queryTimeouts.getSearch(), () -> userSearchRepository.search(template, tenantId, req, pageable))
+                    .map(this::toDto);
 
-        return CustomPage.from(page);
+            return CustomPage.from(page);
+        });
     }
 
     public UserDto getById(UUID id) {
-        return userRepository.findById(id)
+        var tenantId = tenantContext.current();
+        return userCache.get(tenantId, id, () -> requestCoalescer.execute("getById", new TenantScoped(tenantId, id), () -> queryGuard
+                .execute(queryTimeouts.getGetById(), () -> userRepository.findByIdAndTenantId(id, tenantId))
                 .map(this::toDto)
-                .orElseThrow(() -> new NotFoundException("User not found"));
+                .orElseThrow(() -> new NotFoundException("User not found"))));
+    }
+
+    public LookupUsersRes lookup(LookupUsersReq req) {
+        var ids = new LinkedHashSet<>(req.ids());
+        if (ids.size() > lookupProperties.getMaxIds()) {
+            throw new InvalidRequestException("A maximum of %d ids can be looked up at once"
+                    .formatted(lookupProperties.getMaxIds()));
+        }
+
+        var tenantId = tenantContext.current();
+        var found = new HashMap<>(userCache.getAllPresent(tenantId, ids));
+        var pending = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!pending.isEmpty()) {
+            queryGuard.execute(queryTimeouts.getLookup(), () -> userRepository.findByIdInAndTenantId(pending, tenantId))
+                    .stream()
+                    .map(this::toDto)
+                    .forEach(user -> {
+                        found.put(user.id(), user);
+                        userCache.put(tenantId, user);
+                    });
+        }
+
+        return LookupUsersRes.builder()
+                .results(ids.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .missingIds(ids.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .toList())
+                .build();
+    }
+
+    public UserSyncRes sync(String since, int limit) {
+        if (limit <= 0) {
+            throw new InvalidRequestException("Limit must be positive");
+        }
+
+        var watermark = SyncWatermark.parse(since);
+        var pageSize = Math.min(limit, syncProperties.getMaxPageSize());
+        var settledBefore = clock.instant().minus(syncProperties.getSettleTime());
+
+        var users = queryGuard.execute(queryTimeouts.getSync(), () -> userRepository
+                .findChangedSince(tenantContext.current(), watermark.updatedAt(), watermark.id(), settledBefore, pageSize));
+        var next = users.isEmpty()
+                ? watermark
+                : new SyncWatermark(users.getLast().getUpdatedAt(), users.getLast().getId());
+
+        return UserSyncRes.builder()
+                .users(users.stream()
+                        .map(user -> SyncedUserDto.builder()
+                                .id(user.getId())
+                                .deleted(!user.isEnabled())
+                                .updatedAt(user.getUpdatedAt())
+                                .user(user.isEnabled() ? toDto(user) : null)
+                                .build())
+                        .toList())
+                .watermark(next.encode())
+                .hasMore(users.size() == pageSize)
+                .build();
     }
 
     private UserDto toDto(User user) {
@@ -65,4 +178,10 @@ public class UserService {
                 .type(user.getType())
                 .build();
     }
+
+    private record TenantScoped(
+            String tenantId,
+            UUID id
+    ) {
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.startup;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Singleton
+@Requires(property = "users.training.enabled", value = "true")
+public class TrainingRun {
+
+    private final WarmUp warmUp;
+    private final ApplicationContext applicationContext;
+    private final int iterations;
+
+    public TrainingRun(WarmUp warmUp, ApplicationContext applicationContext,
+                       @Value("${users.training.iterations:50}") int iterations) {
+        this.warmUp = warmUp;
+        this.applicationContext = applicationContext;
+        this.iterations = iterations;
+    }
+
+    @EventListener
+    public void onStartup(ServerStartupEvent event) {
+        Thread.ofPlatform().name("training-run").start(() -> {
+            try {
+                warmUp.run(WarmUpMode.DATABASE, iterations);
+            } catch (RuntimeException e) {
+                log.error("Training run failed", e);
+            } finally {
+                log.info("Training run finished, shutting down");
+                applicationContext.stop();
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.startup;
+
+import com.example.codec.BinaryFormat;
+import com.example.codec.ResponseEncoder;
+import com.example.config.TenancyProperties;
+import com.example.dto.CustomPage;
+import com.example.dto.Gender;
+import com.example.dto.SearchUsersReq;
+import com.example.dto.UserDto;
+import com.example.dto.UserType;
+import com.example.exception.NotFoundException;
+import com.example.persistence.model.User;
+import com.example.persistence.specification.UserSearchCompiler;
+import com.example.service.SearchKey;
+import com.example.service.UserService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.GenericArgument;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static io.micronaut.http.MediaType.APPLICATION_JSON_TYPE;
+
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class WarmUp {
+
+    private static final Argument<UserDto> USER_TYPE = Argument.of(UserDto.class);
+    private static final Argument<CustomPage<UserDto>> PAGE_TYPE = new GenericArgument<>() {
+    };
+    private static final List<SearchUsersReq> SEARCHES = List.of(
+            SearchUsersReq.builder().build(),
+            SearchUsersReq.builder().name("a").build(),
+            SearchUsersReq.builder().olderThan(30).build(),
+            SearchUsersReq.builder().types(Set.of(UserType.T1, UserType.T3)).build(),
+            SearchUsersReq.builder().gender(Gender.FEMALE).build(),
+            SearchUsersReq.builder().name("a").olderThan(30).types(Set.of(UserType.T2)).gender(Gender.MALE).build());
+    private static final List<Pageable> PAGES = List.of(
+            Pageable.from(0, 20),
+            Pageable.from(1, 100, Sort.of(Sort.Order.asc("name"))));
+
+    private final UserService userService;
+    private final ResponseEncoder responseEncoder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserSearchCompiler userSearchCompiler;
+    private final TenancyProperties tenancyProperties;
+
+    private volatile boolean complete;
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void run(WarmUpMode mode, int iterations) {
+        var start = System.nanoTime();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                switch (mode) {
+                    case DATABASE -> warmUpDatabase();
+                    case SYNTHETIC -> warmUpSynthetic();
+                }
+            }
+            log.info("{} warm-up of {} iterations finished in {} ms", mode, iterations, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            complete = true;
+        }
+    }
+
+    private void warmUpDatabase() {
+        UserDto found = null;
+        for (SearchUsersReq search : SEARCHES) {
+            for (Pageable pageable : PAGES) {
+                var page = userService.search(search, pageable);
+                encode(PAGE_TYPE, page);
+                if (found == null && !page.results().isEmpty()) {
+                    found = page.results().getFirst();
+                }
+            }
+        }
+        if (found != null) {
+            encode(USER_TYPE, userService.getById(found.id()));
+        }
+        try {
+            userService.getById(UUID.randomUUID());
+        } catch (NotFoundException e) {
+            // expected, exercises the not found path
+        }
+    }
+
+    private void warmUpSynthetic() {
+        try (var entityManager = entityManagerFactory.createEntityManager()) {
+            for (SearchUsersReq search : SEARCHES) {
+                for (Pageable pageable : PAGES) {
+                    var template = userSearchCompiler.compile(search, pageable.getSort());
+                    entityManager.createQuery(template.getSelectQuery(), User.class);
+                    entityManager.createQuery(template.getCountQuery(), Long.class);
+                    SearchKey.of(tenancyProperties.getDefaultTenant(), search, pageable);
+                    encodeSyntheticPage(pageable);
+                }
+            }
+        }
+    }
+
+    private void encodeSyntheticPage(Pageable pageable) {
+        var users = IntStream.range(0, pageable.getSize())
+                .mapToObj(WarmUp::syntheticUser)
+                .toList();
+        encode(PAGE_TYPE, CustomPage.<UserDto>builder()
+                .results(users)
+                .pageSize(pageable.getSize())
+                .pageNumber(pageable.getNumber())
+                .totalCount(users.size())
+                .build());
+        users.forEach(user -> encode(USER_TYPE, user));
+    }
+
+    private <T> void encode(Argument<T> type, T value) {
+        responseEncoder.encode(APPLICATION_JSON_TYPE, type, value);
+        for (BinaryFormat format : BinaryFormat.values()) {
+            responseEncoder.encode(format.getMediaType(), type, value);
+        }
+    }
+
+    private static UserDto syntheticUser(int i) {
+        return UserDto.builder()
+                .id(new UUID(0, i))
+                .name("Warm Up " + i)
+                .email("warm.up." + i + "@example.com")
+                .birthdate(LocalDate.of(1950 + i % 60, 1 + i % 12, 1 + i % 28))
+                .gender(Gender.values()[i % Gender.values().length])
+                .type(UserType.values()[i % UserType.values().length])
+                .build();
+    }
+}
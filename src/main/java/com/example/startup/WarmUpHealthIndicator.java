@@ -0,0 +1,26 @@
+package com.example.startup;
+
+import com.example.config.WarmUpProperties;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+
+@Readiness
+@Singleton
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUp warmUp;
+    private final WarmUpProperties properties;
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        var ready = !properties.isEnabled() || warmUp.isComplete();
+        return Publishers.just(HealthResult.builder("warmUp", ready ? HealthStatus.UP : HealthStatus.DOWN).build());
+    }
+}
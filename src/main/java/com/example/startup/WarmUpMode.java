@@ -0,0 +1,6 @@
+package com.example.startup;
+
+public enum WarmUpMode {
+    DATABASE,
+    SYNTHETIC
+}
@@ -0,0 +1,31 @@
+package com.example.startup;
+
+import com.example.config.WarmUpProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = "users.warm-up.enabled", value = "true")
+@Requires(property = "users.training.enabled", notEquals = "true")
+public class WarmUpRunner {
+
+    private final WarmUp warmUp;
+    private final WarmUpProperties properties;
+
+    @EventListener
+    public void onStartup(ServerStartupEvent event) {
+        Thread.ofPlatform().name("warm-up").start(() -> {
+            try {
+                warmUp.run(properties.getMode(), properties.getIterations());
+            } catch (RuntimeException e) {
+                log.error("Warm-up failed, marking the application as ready anyway", e);
+            }
+        });
+    }
+}
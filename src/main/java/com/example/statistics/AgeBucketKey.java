@@ -0,0 +1,12 @@
+package com.example.statistics;
+
+import com.example.dto.Gender;
+import com.example.dto.UserType;
+
+public record AgeBucketKey(
+        String tenantId,
+        int birthYear,
+        UserType type,
+        Gender gender
+) {
+}
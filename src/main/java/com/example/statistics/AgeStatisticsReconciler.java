@@ -0,0 +1,55 @@
+package com.example.statistics;
+
+import com.example.persistence.model.UserAgeBucket;
+import com.example.persistence.repository.UserAgeBucketRepository;
+import com.example.persistence.repository.UserAgeCountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Singleton
+@Requires(property = "users.statistics.reconcile-enabled", value = StringUtils.TRUE, defaultValue = StringUtils.TRUE)
+@RequiredArgsConstructor
+public class AgeStatisticsReconciler {
+
+    private final UserAgeStatistics userAgeStatistics;
+    private final UserAgeBucketRepository userAgeBucketRepository;
+    private final UserAgeCountRepository userAgeCountRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelay = "${users.statistics.reconcile-interval}", initialDelay = "${users.statistics.reconcile-interval}")
+    public int reconcile() {
+        Map<AgeBucketKey, Long> expected = new HashMap<>();
+        for (var count : userAgeCountRepository.countEnabledByBirthYear()) {
+            expected.put(new AgeBucketKey(count.tenantId(), count.birthYear(), count.type(), count.gender()), count.count());
+        }
+        Map<AgeBucketKey, Long> actual = new HashMap<>();
+        for (UserAgeBucket bucket : userAgeBucketRepository.findAll()) {
+            actual.put(new AgeBucketKey(bucket.getTenantId(), bucket.getBirthYear(), bucket.getType(), bucket.getGender()), bucket.getUserCount());
+        }
+
+        var corrected = 0;
+        for (var key : union(expected, actual)) {
+            if (expected.getOrDefault(key, 0L).longValue() != actual.getOrDefault(key, 0L).longValue()
+                    && userAgeStatistics.reconcile(key)) {
+                meterRegistry.counter("users.statistics.corrections", "tenant", key.tenantId()).increment();
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private static Set<AgeBucketKey> union(Map<AgeBucketKey, Long> expected, Map<AgeBucketKey, Long> actual) {
+        var keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        return keys;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.statistics;
+
+import com.example.dto.AgeCountDto;
+import com.example.dto.Gender;
+import com.example.dto.UserStatisticsRes;
+import com.example.dto.UserType;
+import com.example.persistence.model.User;
+import com.example.persistence.model.UserAgeBucket;
+import com.example.persistence.repository.UserAgeBucketRepository;
+import com.example.persistence.repository.UserRepository;
+import com.example.tenant.TenantContext;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.annotation.Transactional;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Singleton
+@RequiredArgsConstructor
+public class UserAgeStatistics {
+
+    private final UserAgeBucketRepository userAgeBucketRepository;
+    private final UserRepository userRepository;
+    private final TenantContext tenantContext;
+    private final Clock clock;
+
+    public void record(User user, long delta) {
+        if (user.getBirthdate() == null || user.getType() == null || user.getGender() == null) {
+            return;
+        }
+
+        var key = keyOf(user);
+        if (userAgeBucketRepository.increment(key.tenantId(), key.birthYear(), key.type(), key.gender(), delta) == 0) {
+            userAgeBucketRepository.insertIfAbsent(key.tenantId(), key.birthYear(), key.type().name(), key.gender().name());
+            userAgeBucketRepository.increment(key.tenantId(), key.birthYear(), key.type(), key.gender(), delta);
+        }
+    }
+
+    public UserStatisticsRes statistics(@Nullable Set<UserType> types, @Nullable Gender gender, @Nullable Integer olderThan) {
+        var currentYear = Year.now(clock).getValue();
+        Map<Integer, Long> countsByBirthYear = new TreeMap<>(Comparator.reverseOrder());
+        for (UserAgeBucket bucket : userAgeBucketRepository.findByTenantId(tenantContext.current())) {
+            if ((types == null || types.isEmpty() || types.contains(bucket.getType()))
+                    && (gender == null || gender == bucket.getGender())
+                    && bucket.getUserCount() > 0) {
+                countsByBirthYear.merge(bucket.getBirthYear(), bucket.getUserCount(), Long::sum);
+            }
+        }
+
+        List<AgeCountDto> ages = countsByBirthYear.entrySet().stream()
+                .map(entry -> AgeCountDto.builder()
+                        .age(currentYear - entry.getKey())
+                        .birthYear(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+
+        return UserStatisticsRes.builder()
+                .total(ages.stream().mapToLong(AgeCountDto::count).sum())
+                .olderThanCount(olderThan == null ? null : ages.stream()
+                        .filter(age -> age.age() >= olderThan)
+                        .mapToLong(AgeCountDto::count)
+                        .sum())
+                .ages(ages)
+                .build();
+    }
+
+    @Transactional
+    public boolean reconcile(AgeBucketKey key) {
+        userAgeBucketRepository.insertIfAbsent(key.tenantId(), key.birthYear(), key.type().name(), key.gender().name());
+        var bucket = userAgeBucketRepository.findForUpdate(key.tenantId(), key.birthYear(), key.type().name(), key.gender().name())
+                .orElseThrow();
+        var year = Year.of(key.birthYear());
+        var count = userRepository.countByTenantIdAndTypeAndGenderAndBirthdateBetween(key.tenantId(), key.type(), key.gender(),
+                year.atDay(1), year.atDay(year.length()));
+        if (bucket.getUserCount() == count) {
+            return false;
+        }
+
+        bucket.setUserCount(count);
+        userAgeBucketRepository.update(bucket);
+        return true;
+    }
+
+    private static AgeBucketKey keyOf(User user) {
+        return new AgeBucketKey(user.getTenantId(), user.getBirthdate().getYear(), user.getType(), user.getGender());
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.stream;
+
+public enum OverflowPolicy {
+    DROP_OLDEST,
+    DISCONNECT
+}
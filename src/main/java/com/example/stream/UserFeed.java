@@ -0,0 +1,99 @@
+package com.example.stream;
+
+import com.example.config.StreamProperties;
+import com.example.dto.Gender;
+import com.example.dto.UserDto;
+import com.example.dto.UserType;
+import com.example.event.UserCreatedEvent;
+import com.example.exception.OverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.sse.Event;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class UserFeed {
+
+    private static final String EVENT_NAME = "user-created";
+
+    private final StreamProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public UserFeed(StreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("users.stream.subscribers", subscribers);
+    }
+
+    public Flux<Event<UserDto>> subscribe(String tenantId, @Nullable Set<UserType> types, @Nullable Gender gender) {
+        return Flux.defer(() -> {
+            if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+                subscribers.decrementAndGet();
+                return Flux.error(new OverloadedException("Too many stream subscribers"));
+            }
+            return events(tenantId, types, gender)
+                    .doFinally(signal -> subscribers.decrementAndGet());
+        });
+    }
+
+    private Flux<Event<UserDto>> events(String tenantId, @Nullable Set<UserType> types, @Nullable Gender gender) {
+        var policy = properties.getOverflow();
+        Flux<Event<UserDto>> events = Flux.create(sink -> {
+            var subscription = new Subscription(tenantId, types, gender, sink);
+            subscriptions.add(subscription);
+            sink.onDispose(() -> subscriptions.remove(subscription));
+        });
+        return events
+                .onBackpressureBuffer(properties.getBufferSize(), event -> overflowed(tenantId, policy), strategy(policy))
+                .onErrorComplete(Exceptions::isOverflow);
+    }
+
+    @TransactionalEventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        var user = event.user();
+        var sse = Event.of(user)
+                .name(EVENT_NAME)
+                .id(user.id().toString());
+        for (var subscription : subscriptions) {
+            if (subscription.accepts(event.tenantId(), user)) {
+                subscription.sink().next(sse);
+            }
+        }
+    }
+
+    private void overflowed(String tenantId, OverflowPolicy policy) {
+        meterRegistry.counter("users.stream.overflows", "tenant", tenantId, "policy", policy.name()).increment();
+    }
+
+    private static BufferOverflowStrategy strategy(OverflowPolicy policy) {
+        return switch (policy) {
+            case DROP_OLDEST -> BufferOverflowStrategy.DROP_OLDEST;
+            case DISCONNECT -> BufferOverflowStrategy.ERROR;
+        };
+    }
+
+    private record Subscription(
+            String tenantId,
+            Set<UserType> types,
+            Gender gender,
+            FluxSink<Event<UserDto>> sink
+    ) {
+
+        boolean accepts(String tenantId, UserDto user) {
+            return this.tenantId.equals(tenantId)
+                    && (types == null || types.isEmpty() || types.contains(user.type()))
+                    && (gender == null || gender == user.gender());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.tenant;
+
+import com.example.config.TenancyProperties;
+import io.micronaut.http.context.ServerRequestContext;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+@Singleton
+@RequiredArgsConstructor
+public class TenantContext {
+
+    public static final String TENANT_ATTRIBUTE = TenantContext.class.getName() + ".tenant";
+
+    private final TenancyProperties properties;
+
+    public String current() {
+        return ServerRequestContext.currentRequest()
+                .flatMap(request -> request.getAttribute(TENANT_ATTRIBUTE, String.class))
+                .orElse(properties.getDefaultTenant());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.validation;
+
+import com.example.config.ValidationProperties;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import jakarta.inject.Singleton;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+@Singleton
+@RequiredArgsConstructor
+public class RequestValidator {
+
+    private final Validator validator;
+    private final ValidationProperties properties;
+
+    public <T> void validate(T bean) {
+        var violations = properties.isFailFast() ? validateFirst(bean) : validator.validate(bean);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Set<ConstraintViolation<T>> validateFirst(T bean) {
+        var introspection = BeanIntrospection.getIntrospection((Class<T>) bean.getClass());
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            var violations = validator.validateProperty(bean, property.getName());
+            if (!violations.isEmpty()) {
+                return Set.of(violations.iterator().next());
+            }
+        }
+        return Set.of();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.cache;
+
+import com.example.dto.UserDto;
+import com.example.event.UserDeletedEvent;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.dto.Gender.MALE;
+import static com.example.dto.UserType.T1;
+import static io.micronaut.http.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(transactional = false)
+@Property(name = "spec.name", value = "CacheInvalidatorTest")
+@Property(name = "users.cache.enabled", value = "true")
+@Property(name = "users.response-cache.enabled", value = "true")
+@Property(name = "users.shared-cache.enabled", value = "true")
+class CacheInvalidatorTest {
+
+    @Inject
+    private UserCache userCache;
+    @Inject
+    private SerializedResponseCache responseCache;
+    @Inject
+    private InvalidationBus invalidationBus;
+    @Inject
+    private CacheInvalidator cacheInvalidator;
+    @Inject
+    private ApplicationEventPublisher<UserDeletedEvent> userDeletedPublisher;
+    @Inject
+    private TransactionOperations<Session> transactionOperations;
+    @Inject
+    private InvalidationRecorder invalidationRecorder;
+
+    private static final String TENANT = "default";
+
+    @BeforeEach
+    void setUp() {
+        invalidationRecorder.invalidations().clear();
+    }
+
+    @Test
+    void testRemoteInvalidationEvictsOnlyLocalCaches() {
+        // Given
+        var id = UUID.randomUUID();
+        userCache.get(TENANT, id, () -> buildUser(id, "John Doe"));
+        responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "John Doe"));
+
+        // When
+        invalidationBus.publish(new CacheInvalidation("another-node", TENANT, id));
+
+        // Then
+        assertEquals("Jane Doe", userCache.get(TENANT, id, () -> buildUser(id, "Jane Doe")).name());
+        var response = new String(responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "Jane Doe")));
+        assertTrue(response.contains("John Doe"));
+    }
+
+    @Test
+    void testLocalDeletionEvictsSharedCache() {
+        // Given
+        var id = UUID.randomUUID();
+        responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "John Doe"));
+
+        // When
+        transactionOperations.executeWrite(status -> {
+            userDeletedPublisher.publishEvent(new UserDeletedEvent(TENANT, id));
+            return null;
+        });
+
+        // Then
+        var response = new String(responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "Jane Doe")));
+        assertTrue(response.contains("Jane Doe"));
+        assertEquals(1, invalidationRecorder.invalidations().size());
+    }
+
+    @Test
+    void testRolledBackDeletionDoesNotEvictOrBroadcast() {
+        // Given
+        var id = UUID.randomUUID();
+        userCache.get(TENANT, id, () -> buildUser(id, "John Doe"));
+        responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "John Doe"));
+
+        // When
+        transactionOperations.executeWrite(status -> {
+            userDeletedPublisher.publishEvent(new UserDeletedEvent(TENANT, id));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // Then
+        assertEquals("John Doe", userCache.get(TENANT, id, () -> buildUser(id, "Jane Doe")).name());
+        var response = new String(responseCache.getById(id, APPLICATION_JSON_TYPE, () -> buildUser(id, "Jane Doe")));
+        assertTrue(response.contains("John Doe"));
+        assertTrue(invalidationRecorder.invalidations().isEmpty());
+    }
+
+    @Test
+    void testInvalidationFromAnotherInvalidatorEvictsLocalCaches() {
+        // Given
+        var id = UUID.randomUUID();
+        var other = new CacheInvalidator(userCache, responseCache, invalidationBus);
+        userCache.get(TENANT, id, () -> buildUser(id, "John Doe"));
+
+        // When
+        invalidationBus.publish(new CacheInvalidation(other.getNodeId(), TENANT, id));
+
+        // Then
+        assertNotEquals(cacheInvalidator.getNodeId(), other.getNodeId());
+        assertEquals("Jane Doe", userCache.get(TENANT, id, () -> buildUser(id, "Jane Doe")).name());
+    }
+
+    @Test
+    void testNodeIdChangesAfterRestore() {
+        // Given
+        var id = UUID.randomUUID();
+        var checkpointedNodeId = cacheInvalidator.getNodeId();
+        userCache.get(TENANT, id, () -> buildUser(id, "John Doe"));
+
+        // When
+        cacheInvalidator.afterRestore(null);
+        invalidationBus.publish(new CacheInvalidation(checkpointedNodeId, TENANT, id));
+
+        // Then
+        assertNotEquals(checkpointedNodeId, cacheInvalidator.getNodeId());
+        assertEquals("Jane Doe", userCache.get(TENANT, id, () -> buildUser(id, "Jane Doe")).name());
+    }
+
+    private static UserDto buildUser(UUID id, String name) {
+        return UserDto.builder()
+                .id(id)
+                .name(name)
+                .email("jdoe@gmail.com")
+                .gender(MALE)
+                .type(T1)
+                .build();
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "CacheInvalidatorTest")
+    static class InvalidationRecorder {
+
+        private final List<CacheInvalidation> invalidations = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onInvalidation(CacheInvalidation invalidation) {
+            invalidations.add(invalidation);
+        }
+
+        List<CacheInvalidation> invalidations() {
+            return invalidations;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HikariPoolConfigurerTest {
+
+    private final PoolProperties properties = new PoolProperties();
+
+    @Test
+    void testPoolSizeIsTwoConnectionsPerCorePlusOne() {
+        assertEquals(17, HikariPoolConfigurer.poolSize(8, null, properties));
+    }
+
+    @Test
+    void testPoolSizeIsCappedByExecutorThreads() {
+        assertEquals(10, HikariPoolConfigurer.poolSize(8, 10, properties));
+    }
+
+    @Test
+    void testPoolSizeIsClampedToMinimum() {
+        assertEquals(4, HikariPoolConfigurer.poolSize(1, null, properties));
+        assertEquals(4, HikariPoolConfigurer.poolSize(8, 2, properties));
+    }
+
+    @Test
+    void testPoolSizeIsClampedToMaximum() {
+        assertEquals(64, HikariPoolConfigurer.poolSize(128, null, properties));
+    }
+
+    @Test
+    void testPoolSizeUsesConfiguredConnectionsPerCore() {
+        // Given
+        properties.setConnectionsPerCore(4);
+        properties.setMaximumSize(100);
+
+        // Then
+        assertEquals(33, HikariPoolConfigurer.poolSize(8, null, properties));
+    }
+}
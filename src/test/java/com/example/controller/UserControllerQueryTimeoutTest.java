@@ -0,0 +1,61 @@
+package com.example.controller;
+
+import com.example.dto.ApiError;
+import com.example.persistence.repository.UserRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.example.dto.ErrorType.TIMEOUT_ERROR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@MicronautTest
+@Property(name = "users.query-timeout.get-by-id", value = "1s")
+class UserControllerQueryTimeoutTest {
+
+    private static final String SLOW_QUERY = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000000000) WHERE MOD(X, 7) = 3";
+
+    @Inject
+    private RequestSpecification spec;
+    @Inject
+    private ObjectMapper objectMapper;
+    @Inject
+    private EntityManager entityManager;
+
+    @MockBean(UserRepository.class)
+    public UserRepository userRepository() {
+        var userRepository = mock(UserRepository.class);
+        when(userRepository.findByIdAndTenantId(any(), any())).thenAnswer(invocation -> {
+            entityManager.createNativeQuery(SLOW_QUERY).getSingleResult();
+            return Optional.empty();
+        });
+        return userRepository;
+    }
+
+    @Test
+    void testGetUserWhenQueryExceedsDeadline() throws IOException {
+        String getUserByIdResponseBody = spec
+                .given()
+                .pathParam("id", "64e8a9f3-cf02-4a55-87bd-f1987cfac58d")
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(504)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(getUserByIdResponseBody, ApiError.class);
+
+        assertEquals(TIMEOUT_ERROR, apiError.error());
+        assertEquals("Query exceeded the 1000 ms deadline", apiError.message());
+    }
+}
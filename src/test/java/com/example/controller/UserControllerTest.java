@@ -1,6 +1,8 @@
 package com.example.controller;
 
+import com.example.codec.BinaryCodec;
 import com.example.dto.*;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.GenericArgument;
 import io.micronaut.serde.ObjectMapper;
 import io.micronaut.test.annotation.MockBean;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.time.Clock;
@@ -23,11 +26,17 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static com.example.codec.BinaryFormat.CBOR;
+import static com.example.codec.BinaryFormat.SMILE;
+import static com.example.codec.BinaryMediaType.APPLICATION_CBOR;
+import static com.example.codec.BinaryMediaType.APPLICATION_SMILE;
 import static com.example.dto.ErrorType.*;
 import static com.example.dto.Gender.MALE;
 import static com.example.dto.UserType.T1;
 import static io.restassured.http.ContentType.JSON;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MicronautTest
@@ -40,6 +49,8 @@ class UserControllerTest {
     private ObjectMapper objectMapper;
     @Inject
     private Clock clock;
+    @Inject
+    private BinaryCodec binaryCodec;
 
     @MockBean(Clock.class)
     public Clock clock() {
@@ -78,6 +89,288 @@ class UserControllerTest {
         assertEquals(createdUser, retrievedUser);
     }
 
+    @Test
+    void testDeleteUser() throws IOException {
+        String createUserResponseBody = spec
+                .given()
+                .contentType(JSON)
+                .body(buildCreateUserRequestJson())
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserDto createdUser = objectMapper.readValue(createUserResponseBody, UserDto.class);
+
+        spec
+                .given()
+                .pathParam("id", createdUser.id())
+                .when()
+                .delete("/users/{id}")
+                .then()
+                .statusCode(204);
+
+        spec
+                .given()
+                .pathParam("id", createdUser.id())
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void testGetChanges() throws IOException {
+        String createUserResponseBody = spec
+                .given()
+                .contentType(JSON)
+                .body(buildCreateUserRequestJson())
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserDto createdUser = objectMapper.readValue(createUserResponseBody, UserDto.class);
+
+        String changesResponseBody = spec
+                .given()
+                .queryParam("since", 0)
+                .queryParam("limit", 1000)
+                .when()
+                .get("/users/changes")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserChangesRes changes = objectMapper.readValue(changesResponseBody, UserChangesRes.class);
+
+        UserChangeDto change = changes.changes().stream()
+                .filter(c -> c.userId().equals(createdUser.id()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(ChangeType.CREATED, change.type());
+        assertEquals(createdUser, change.user());
+        assertEquals(changes.changes().getLast().sequence(), changes.nextCursor());
+
+        String nextChangesResponseBody = spec
+                .given()
+                .queryParam("since", changes.nextCursor())
+                .when()
+                .get("/users/changes")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserChangesRes nextChanges = objectMapper.readValue(nextChangesResponseBody, UserChangesRes.class);
+
+        assertTrue(nextChanges.changes().stream().allMatch(c -> c.sequence() > changes.nextCursor()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testGetChangesWhenInvalidLimit(int limit) throws IOException {
+        String changesResponseBody = spec
+                .given()
+                .queryParam("limit", limit)
+                .when()
+                .get("/users/changes")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(changesResponseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Limit must be positive", apiError.message());
+    }
+
+    @Test
+    void testGetStatistics() throws IOException {
+        UserStatisticsRes before = getStatistics(29);
+        UserStatisticsRes beforeBirthdayAge = getStatistics(30);
+
+        spec
+                .given()
+                .contentType(JSON)
+                .body(buildCreateUserRequestJson())
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(200);
+
+        UserStatisticsRes after = getStatistics(29);
+        UserStatisticsRes afterBirthdayAge = getStatistics(30);
+        AgeCountDto age = after.ages().stream()
+                .filter(a -> a.birthYear() == BIRTHDATE.getYear())
+                .findFirst()
+                .orElseThrow();
+        assertEquals(30, age.age());
+        assertEquals(before.total() + 1, after.total());
+        assertEquals(before.olderThanCount() + 1, after.olderThanCount());
+        assertEquals(beforeBirthdayAge.olderThanCount() + 1, afterBirthdayAge.olderThanCount());
+    }
+
+    @Test
+    void testSyncUsers() throws IOException {
+        String createUserResponseBody = spec
+                .given()
+                .contentType(JSON)
+                .body(buildCreateUserRequestJson())
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserDto createdUser = objectMapper.readValue(createUserResponseBody, UserDto.class);
+
+        spec
+                .given()
+                .pathParam("id", createdUser.id())
+                .when()
+                .delete("/users/{id}")
+                .then()
+                .statusCode(204);
+
+        String syncResponseBody = spec
+                .given()
+                .queryParam("limit", 1000)
+                .when()
+                .get("/users/sync")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserSyncRes sync = objectMapper.readValue(syncResponseBody, UserSyncRes.class);
+
+        SyncedUserDto tombstone = sync.users().stream()
+                .filter(user -> user.id().equals(createdUser.id()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(tombstone.deleted());
+        assertEquals(clock.instant(), tombstone.updatedAt());
+        assertNull(tombstone.user());
+
+        String nextSyncResponseBody = spec
+                .given()
+                .queryParam("since", sync.watermark())
+                .when()
+                .get("/users/sync")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserSyncRes nextSync = objectMapper.readValue(nextSyncResponseBody, UserSyncRes.class);
+
+        assertTrue(nextSync.users().isEmpty());
+        assertEquals(sync.watermark(), nextSync.watermark());
+    }
+
+    @Test
+    void testSyncUsersWhenInvalidWatermark() throws IOException {
+        String syncResponseBody = spec
+                .given()
+                .queryParam("since", "not-a-watermark")
+                .when()
+                .get("/users/sync")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(syncResponseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Invalid watermark", apiError.message());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testSyncUsersWhenInvalidLimit(int limit) throws IOException {
+        String syncResponseBody = spec
+                .given()
+                .queryParam("limit", limit)
+                .when()
+                .get("/users/sync")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(syncResponseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Limit must be positive", apiError.message());
+    }
+
+    @Test
+    void testUsersAreIsolatedPerTenant() throws IOException {
+        String createUserResponseBody = spec
+                .given()
+                .header("X-Tenant-Id", "acme")
+                .contentType(JSON)
+                .body(buildCreateUserRequestJson())
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        UserDto createdUser = objectMapper.readValue(createUserResponseBody, UserDto.class);
+
+        spec
+                .given()
+                .header("X-Tenant-Id", "acme")
+                .pathParam("id", createdUser.id())
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(200);
+
+        spec
+                .given()
+                .pathParam("id", createdUser.id())
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(404);
+
+        String searchUsersResponseBody = spec
+                .given()
+                .header("X-Tenant-Id", "acme")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        CustomPage<UserDto> page = objectMapper.readValue(searchUsersResponseBody, new GenericArgument<>() {
+        });
+
+        assertEquals(List.of(createdUser), page.results());
+    }
+
+    @Test
+    void testGetUserWhenUnknownTenant() throws IOException {
+        String getUserByIdResponseBody = spec
+                .given()
+                .header("X-Tenant-Id", "unknown")
+                .pathParam("id", "0f5df27d-a862-4fce-b791-c0b92cfd2e28")
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(getUserByIdResponseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Unknown tenant", apiError.message());
+    }
+
+    @Test
+    void testSearchUsersWhenUnsupportedSort() throws IOException {
+        String searchUsersResponseBody = spec
+                .given()
+                .queryParam("sort", "email")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(searchUsersResponseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Unsupported sort property: email", apiError.message());
+    }
+
     @Test
     void testGetUserWhenNotFound() throws IOException {
         String getUserByIdResponseBody = spec
@@ -94,6 +387,75 @@ class UserControllerTest {
         assertEquals("User not found", apiError.message());
     }
 
+    @Test
+    void testGetUserAsCbor() throws IOException {
+        byte[] getUserByIdResponseBody = spec
+                .given()
+                .accept(APPLICATION_CBOR)
+                .pathParam("id", "0f5df27d-a862-4fce-b791-c0b92cfd2e28")
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(200)
+                .contentType(APPLICATION_CBOR)
+                .extract().body().asByteArray();
+        UserDto retrievedUser = binaryCodec.read(CBOR, Argument.of(UserDto.class), getUserByIdResponseBody);
+
+        assertEquals(UUID.fromString("0f5df27d-a862-4fce-b791-c0b92cfd2e28"), retrievedUser.id());
+        assertEquals("John Smith", retrievedUser.name());
+    }
+
+    @Test
+    void testGetUserWhenNotFoundAsSmile() throws IOException {
+        byte[] getUserByIdResponseBody = spec
+                .given()
+                .accept(APPLICATION_SMILE)
+                .pathParam("id", "64e8a9f3-cf02-4a55-87bd-f1987cfac58d")
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(404)
+                .contentType(APPLICATION_SMILE)
+                .extract().body().asByteArray();
+        ApiError apiError = binaryCodec.read(SMILE, Argument.of(ApiError.class), getUserByIdResponseBody);
+
+        assertEquals(NOT_FOUND_ERROR, apiError.error());
+        assertEquals("User not found", apiError.message());
+    }
+
+    @Test
+    void testLookupUsers() throws IOException {
+        String lookupUsersResponseBody = spec
+                .given()
+                .contentType(JSON)
+                .body("""
+                        {
+                          "ids": [
+                            "cf458c3f-3eac-4f8e-abc6-75215eb8f774",
+                            "64e8a9f3-cf02-4a55-87bd-f1987cfac58d",
+                            "1c1e3abc-14f2-4d6b-9b78-1b86d9fbb2a7",
+                            "0f5df27d-a862-4fce-b791-c0b92cfd2e28"
+                          ]
+                        }""")
+                .when()
+                .post("/users/lookup")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        LookupUsersRes result = objectMapper.readValue(lookupUsersResponseBody, LookupUsersRes.class);
+
+        assertEquals(
+                List.of(
+                        UUID.fromString("cf458c3f-3eac-4f8e-abc6-75215eb8f774"),
+                        UUID.fromString("0f5df27d-a862-4fce-b791-c0b92cfd2e28")),
+                result.results().stream().map(UserDto::id).toList());
+        assertEquals(
+                List.of(
+                        UUID.fromString("64e8a9f3-cf02-4a55-87bd-f1987cfac58d"),
+                        UUID.fromString("1c1e3abc-14f2-4d6b-9b78-1b86d9fbb2a7")),
+                result.missingIds());
+    }
+
     @Test
     void testGetUserWhenInvalidId() throws IOException {
         String getUserByIdResponseBody = spec
@@ -131,6 +493,40 @@ class UserControllerTest {
         assertEquals(expectedMessage, apiError.message());
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTestRepeatedInvalidRequestsArgs")
+    void testRepeatedInvalidRequestsReturnIdenticalBodies(String mediaType) {
+        byte[] first = postInvalidUser(mediaType);
+        byte[] second = postInvalidUser(mediaType);
+
+        assertArrayEquals(first, second);
+    }
+
+    private byte[] postInvalidUser(String mediaType) {
+        return spec
+                .given()
+                .contentType(JSON)
+                .accept(mediaType)
+                .body("""
+                        {
+                          "email": "jdoe",
+                          "birthdate": "1994-11-15"
+                        }""")
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(400)
+                .extract().body().asByteArray();
+    }
+
+    private static Stream<Arguments> provideTestRepeatedInvalidRequestsArgs() {
+        return Stream.of(
+                Arguments.of("application/json"),
+                Arguments.of(APPLICATION_CBOR),
+                Arguments.of(APPLICATION_SMILE)
+        );
+    }
+
     private static Stream<Arguments> provideTestCreateUserWhenInvalidRequestArgs() {
         return Stream.of(
                 Arguments.of("""
@@ -302,6 +698,20 @@ class UserControllerTest {
         );
     }
 
+    private UserStatisticsRes getStatistics(int olderThan) throws IOException {
+        String responseBody = spec
+                .given()
+                .queryParam("types", TYPE)
+                .queryParam("gender", GENDER)
+                .queryParam("older_than", olderThan)
+                .when()
+                .get("/users/statistics")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        return objectMapper.readValue(responseBody, UserStatisticsRes.class);
+    }
+
     private static String buildCreateUserRequestJson() {
         return """
                 {
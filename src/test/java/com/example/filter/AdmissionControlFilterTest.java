@@ -0,0 +1,104 @@
+package com.example.filter;
+
+import com.example.dto.ApiError;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.example.dto.ErrorType.RATE_LIMIT_ERROR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest
+@Property(name = "users.admission.capacity", value = "10")
+@Property(name = "users.admission.refill-per-second", value = "0.001")
+@Property(name = "users.admission.expensive-search-cost", value = "10")
+@Property(name = "users.admission.trusted-proxies", value = "127.0.0.1,0:0:0:0:0:0:0:1")
+class AdmissionControlFilterTest {
+
+    @Inject
+    private RequestSpecification spec;
+    @Inject
+    private ObjectMapper objectMapper;
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testExpensiveSearchIsShedWhenClientExceedsRateLimit() throws IOException {
+        spec
+                .given()
+                .header("X-Client-Id", "expensive-client")
+                .header("X-Tenant-Id", "acme")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+
+        String searchUsersResponseBody = spec
+                .given()
+                .header("X-Client-Id", "expensive-client")
+                .header("X-Tenant-Id", "acme")
+                .queryParam("name", "J")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(429)
+                .header("Retry-After", "1")
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(searchUsersResponseBody, ApiError.class);
+
+        assertEquals(RATE_LIMIT_ERROR, apiError.error());
+        assertEquals("Rate limit exceeded", apiError.message());
+        assertEquals(1, meterRegistry.counter("users.requests.shed",
+                "tenant", "acme",
+                "route", "EXPENSIVE_SEARCH",
+                "reason", "RATE_LIMIT_ERROR").count());
+    }
+
+    @Test
+    void testFilteredSearchIsCheaperThanExpensiveSearch() {
+        for (int i = 0; i < 10; i++) {
+            spec
+                    .given()
+                    .header("X-Client-Id", "cheap-client")
+                    .queryParam("gender", "MALE")
+                    .when()
+                    .get("/users")
+                    .then()
+                    .statusCode(200);
+        }
+
+        spec
+                .given()
+                .header("X-Client-Id", "cheap-client")
+                .queryParam("gender", "MALE")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(429);
+    }
+
+    @Test
+    void testRateLimitIsPerClient() {
+        spec
+                .given()
+                .header("X-Client-Id", "first-client")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+
+        spec
+                .given()
+                .header("X-Client-Id", "second-client")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+    }
+}
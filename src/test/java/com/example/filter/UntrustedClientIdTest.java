@@ -0,0 +1,36 @@
+package com.example.filter;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+@MicronautTest
+@Property(name = "users.admission.capacity", value = "10")
+@Property(name = "users.admission.refill-per-second", value = "0.001")
+@Property(name = "users.admission.expensive-search-cost", value = "10")
+class UntrustedClientIdTest {
+
+    @Inject
+    private RequestSpecification spec;
+
+    @Test
+    void testClientIdIsIgnoredWhenCallerIsNotATrustedProxy() {
+        spec
+                .given()
+                .header("X-Client-Id", "first-client")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+
+        spec
+                .given()
+                .header("X-Client-Id", "second-client")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(429);
+    }
+}
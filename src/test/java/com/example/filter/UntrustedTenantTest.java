@@ -0,0 +1,49 @@
+package com.example.filter;
+
+import com.example.dto.ApiError;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.example.dto.ErrorType.VALIDATION_ERROR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest
+@Property(name = "users.tenancy.trusted-proxies", value = "10.0.0.1")
+class UntrustedTenantTest {
+
+    @Inject
+    private RequestSpecification spec;
+    @Inject
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testTenantHeaderIsRejectedWhenCallerIsNotATrustedProxy() throws IOException {
+        String responseBody = spec
+                .given()
+                .header("X-Tenant-Id", "acme")
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(400)
+                .extract().body().asString();
+        ApiError apiError = objectMapper.readValue(responseBody, ApiError.class);
+
+        assertEquals(VALIDATION_ERROR, apiError.error());
+        assertEquals("Tenant header is only accepted from trusted proxies", apiError.message());
+    }
+
+    @Test
+    void testRequestWithoutTenantHeaderUsesDefaultTenant() {
+        spec
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.management;
+
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+class PoolEndpointTest {
+
+    @Inject
+    private RequestSpecification spec;
+    @Inject
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testGetPoolStats() throws IOException {
+        String poolResponseBody = spec
+                .given()
+                .when()
+                .get("/pool")
+                .then()
+                .statusCode(200)
+                .extract().body().asString();
+        PoolStats stats = objectMapper.readValue(poolResponseBody, PoolStats.class);
+
+        assertEquals("default", stats.pool());
+        assertTrue(stats.maximumPoolSize() >= 4 && stats.maximumPoolSize() <= 64);
+        assertTrue(stats.total() <= stats.maximumPoolSize());
+        assertEquals(30000, stats.leakDetectionThresholdMs());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.outbox;
+
+import com.example.dto.UserChangeDto;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.example.dto.ChangeType.DELETED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Property(name = "users.outbox.relay-enabled", value = "true")
+class ChangeRelayTest {
+
+    @Inject
+    private ChangeOutbox changeOutbox;
+    @Inject
+    private ChangeRelay changeRelay;
+    @Inject
+    private InMemoryChangeSink changeSink;
+
+    @Test
+    void testRelayPublishesPendingChangesOnce() {
+        // Given
+        var userId = UUID.randomUUID();
+        changeOutbox.record("default", DELETED, userId, null);
+
+        // When
+        var published = changeRelay.relay();
+        var republished = changeRelay.relay();
+
+        // Then
+        assertTrue(published >= 1);
+        assertEquals(0, republished);
+        assertEquals(1, changeSink.getPublished().stream()
+                .map(UserChangeDto::userId)
+                .filter(userId::equals)
+                .count());
+    }
+}
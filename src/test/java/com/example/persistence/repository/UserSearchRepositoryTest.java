@@ -0,0 +1,87 @@
+package com.example.persistence.repository;
+
+import com.example.dto.SearchUsersReq;
+import com.example.persistence.specification.UserSearchCompiler;
+import com.example.persistence.model.User;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.data.repository.jpa.criteria.QuerySpecification;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.annotation.Sql;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.example.dto.Gender.FEMALE;
+import static com.example.dto.Gender.MALE;
+import static com.example.dto.UserType.T1;
+import static com.example.dto.UserType.T3;
+import static com.example.persistence.specification.UserSpecification.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest
+@Sql(scripts = "feed-users.sql")
+class UserSearchRepositoryTest {
+
+    @Inject
+    private UserSearchRepository userSearchRepository;
+    @Inject
+    private UserRepository userRepository;
+    @Inject
+    private UserSearchCompiler userSearchCompiler;
+
+    @MockBean(Clock.class)
+    public Clock clock() {
+        return CLOCK;
+    }
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-11-23T10:15:30Z"), ZoneId.of("UTC"));
+    private static final String TENANT = "default";
+
+    @ParameterizedTest
+    @MethodSource("provideTestSearchMatchesSpecificationsArgs")
+    void testSearchMatchesSpecifications(SearchUsersReq req) {
+        // Given
+        var pageable = Pageable.from(0, 100, Sort.of(Sort.Order.asc("name")));
+        var spec = QuerySpecification.where(nameLike(req.name()))
+                .and(olderThan(req.olderThan(), CLOCK))
+                .and(typeIn(req.types()))
+                .and(genderEquals(req.gender()))
+                .and(isEnabled(true));
+
+        // When
+        var page = userSearchRepository.search(userSearchCompiler.compile(req, pageable.getSort()), TENANT, req, pageable);
+
+        // Then
+        var expected = userRepository.findAll(spec, Pageable.from(0, 100, Sort.of(Sort.Order.asc("name"), Sort.Order.asc("id"))));
+        assertEquals(expected.getTotalSize(), page.getTotalSize());
+        assertEquals(ids(expected.getContent()), ids(page.getContent()));
+    }
+
+    private static Stream<Arguments> provideTestSearchMatchesSpecificationsArgs() {
+        return Stream.of(
+                Arguments.of(SearchUsersReq.builder().build()),
+                Arguments.of(SearchUsersReq.builder().name("ohn").build()),
+                Arguments.of(SearchUsersReq.builder().olderThan(30).build()),
+                Arguments.of(SearchUsersReq.builder().types(Set.of(T1, T3)).build()),
+                Arguments.of(SearchUsersReq.builder().gender(FEMALE).build()),
+                Arguments.of(SearchUsersReq.builder().name("a").olderThan(25).types(Set.of(T1)).gender(MALE).build())
+        );
+    }
+
+    private static List<UUID> ids(List<User> users) {
+        return users.stream()
+                .map(User::getId)
+                .toList();
+    }
+}
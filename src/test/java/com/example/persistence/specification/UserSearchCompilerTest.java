@@ -0,0 +1,71 @@
+package com.example.persistence.specification;
+
+import com.example.dto.SearchUsersReq;
+import com.example.exception.InvalidRequestException;
+import io.micronaut.data.model.Sort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSearchCompilerTest {
+
+    private final UserSearchCompiler userSearchCompiler = new UserSearchCompiler();
+
+    @Test
+    void testCompileReusesTemplateForSameShape() {
+        // Given
+        var sort = Sort.of(Sort.Order.asc("name"));
+
+        // When
+        var first = userSearchCompiler.compile(SearchUsersReq.builder().name("John").build(), sort);
+        var second = userSearchCompiler.compile(SearchUsersReq.builder().name("Jane").build(), sort);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCompileOrdersByIdArgs")
+    void testCompileOrdersById(Sort sort, String expectedOrderBy) {
+        // When
+        var template = userSearchCompiler.compile(SearchUsersReq.builder().build(), sort);
+
+        // Then
+        assertTrue(template.getSelectQuery().endsWith(expectedOrderBy));
+    }
+
+    private static Stream<Arguments> provideTestCompileOrdersByIdArgs() {
+        return Stream.of(
+                Arguments.of(Sort.UNSORTED, " order by u.id asc"),
+                Arguments.of(Sort.of(Sort.Order.asc("name")), " order by u.name asc, u.id asc"),
+                Arguments.of(Sort.of(Sort.Order.desc("birthdate")), " order by u.birthdate desc, u.id desc")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCompileWhenUnsupportedSortArgs")
+    void testCompileWhenUnsupportedSort(Sort sort, String expectedMessage) {
+        // When
+        var ex = assertThrows(InvalidRequestException.class,
+                () -> userSearchCompiler.compile(SearchUsersReq.builder().build(), sort));
+
+        // Then
+        assertEquals(expectedMessage, ex.getMessage());
+    }
+
+    private static Stream<Arguments> provideTestCompileWhenUnsupportedSortArgs() {
+        return Stream.of(
+                Arguments.of(Sort.of(Sort.Order.asc("email")), "Unsupported sort property: email"),
+                Arguments.of(Sort.of(Sort.Order.asc("name", true)), "Case insensitive sorting is not supported"),
+                Arguments.of(Sort.of(Sort.Order.asc("name"), Sort.Order.asc("birthdate")), "Only one sort property is supported")
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.service;
+
+import com.example.config.TenancyProperties;
+import com.example.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry, new TenantContext(new TenancyProperties()));
+
+    @Test
+    void testConcurrentIdenticalRequestsShareOneLoad() throws Exception {
+        // Given
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<String> leader = executor.submit(() -> requestCoalescer.execute("getById", "key", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> requestCoalescer.execute("getById", "key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        while (meterRegistry.counter("users.requests.coalesced", "operation", "getById", "tenant", "default").count() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void testSequentialRequestsAreNotCoalesced() {
+        // When
+        var first = requestCoalescer.execute("search", "key", () -> "first");
+        var second = requestCoalescer.execute("search", "key", () -> "second");
+
+        // Then
+        assertEquals("first", first);
+        assertEquals("second", second);
+        assertEquals(0, meterRegistry.counter("users.requests.coalesced", "operation", "search", "tenant", "default").count());
+    }
+
+    @Test
+    void testFailureIsPropagated() {
+        // When
+        var ex = assertThrows(IllegalStateException.class, () -> requestCoalescer.execute("getById", "key", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        assertEquals("boom", ex.getMessage());
+    }
+
+    @Test
+    void testLeaderDisconnectDoesNotCancelLoadSharedWithConnectedFollower() throws Exception {
+        // Given
+        var leaderChannel = new EmbeddedChannel();
+        var followerChannel = new EmbeddedChannel();
+        var cancellations = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> leader = executor.submit(() -> within(leaderChannel, () -> requestCoalescer.execute("search", "key", () -> {
+            CancellationScope.current().onAbandoned(cancellations::incrementAndGet);
+            started.countDown();
+            await(release);
+            return "value";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> within(followerChannel, () -> requestCoalescer.execute("search", "key", () -> "other")));
+        while (meterRegistry.counter("users.requests.coalesced", "operation", "search", "tenant", "default").count() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        leaderChannel.close();
+        release.countDown();
+
+        // Then
+        assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, cancellations.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void testLoadIsCancelledWhenEveryClientDisconnects() throws Exception {
+        // Given
+        var leaderChannel = new EmbeddedChannel();
+        var followerChannel = new EmbeddedChannel();
+        var cancellations = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> leader = executor.submit(() -> within(leaderChannel, () -> requestCoalescer.execute("search", "key", () -> {
+            CancellationScope.current().onAbandoned(() -> {
+                cancellations.incrementAndGet();
+                release.countDown();
+            });
+            started.countDown();
+            await(release);
+            return "value";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> within(followerChannel, () -> requestCoalescer.execute("search", "key", () -> "other")));
+        while (meterRegistry.counter("users.requests.coalesced", "operation", "search", "tenant", "default").count() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        leaderChannel.close();
+        followerChannel.close();
+
+        // Then
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, cancellations.get());
+        executor.shutdown();
+    }
+
+    private static <T> T within(EmbeddedChannel channel, Supplier<T> body) {
+        return ServerRequestContext.with(request(channel), body);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NettyHttpRequest<Object> request(EmbeddedChannel channel) {
+        var context = mock(ChannelHandlerContext.class);
+        when(context.channel()).thenReturn(channel);
+        NettyHttpRequest<Object> request = mock(NettyHttpRequest.class);
+        when(request.getChannelHandlerContext()).thenReturn(context);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
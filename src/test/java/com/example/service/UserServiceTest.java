@@ -2,33 +2,41 @@ package com.example.service;
 
 import com.example.dto.CreateUserReq;
 import com.example.dto.Gender;
+import com.example.dto.LookupUsersReq;
 import com.example.dto.SearchUsersReq;
 import com.example.dto.UserType;
+import com.example.exception.InvalidRequestException;
 import com.example.exception.NotFoundException;
 import com.example.persistence.model.User;
 import com.example.persistence.repository.UserRepository;
+import com.example.persistence.repository.UserSearchRepository;
+import com.example.persistence.specification.UserSearchTemplate;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
-import io.micronaut.data.repository.jpa.criteria.QuerySpecification;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.example.dto.Gender.MALE;
 import static com.example.dto.UserType.T1;
 import static java.util.Optional.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @MicronautTest
@@ -38,18 +46,32 @@ class UserServiceTest {
     private UserService userService;
     @Inject
     private UserRepository userRepository;
+    @Inject
+    private UserSearchRepository userSearchRepository;
 
     @MockBean(UserRepository.class)
     public UserRepository userRepository() {
         return mock(UserRepository.class);
     }
 
+    @MockBean(UserSearchRepository.class)
+    public UserSearchRepository userSearchRepository() {
+        return mock(UserSearchRepository.class);
+    }
+
+    @MockBean(Clock.class)
+    public Clock clock() {
+        return Clock.fixed(NOW, ZoneId.of("UTC"));
+    }
+
     private static final String NAME = "John Doe";
     private static final UserType TYPE = T1;
     private static final String EMAIL = "jdoe@gmail.com";
     private static final LocalDate BIRTHDATE = LocalDate.of(1994, 11, 15);
     private static final Gender GENDER = MALE;
     private static final UUID ID = UUID.fromString("0f5df27d-a862-4fce-b791-c0b92cfd2e28");
+    private static final String TENANT = "default";
+    private static final Instant NOW = Instant.parse("2024-11-23T10:15:30Z");
 
     @Test
     void testCreateUser() {
@@ -74,7 +96,7 @@ class UserServiceTest {
         // Given
         var req = buildSearchUsersRequest();
         var pageable = Pageable.from(0, 10);
-        when(userRepository.findAll(ArgumentMatchers.<QuerySpecification<User>>any(), eq(pageable)))
+        when(userSearchRepository.search(any(UserSearchTemplate.class), eq(TENANT), eq(req), eq(pageable)))
                 .thenReturn(Page.of(List.of(buildUser(ID)), pageable, 1L));
 
         // When
@@ -95,7 +117,7 @@ class UserServiceTest {
     @Test
     void testGetById() {
         // Given
-        when(userRepository.findById(ID)).thenReturn(Optional.of(buildUser(ID)));
+        when(userRepository.findByIdAndTenantId(ID, TENANT)).thenReturn(Optional.of(buildUser(ID)));
 
         // When
         var user = userService.getById(ID);
@@ -112,7 +134,7 @@ class UserServiceTest {
     @Test
     void testGetByIdWhenNotFound() {
         // Given
-        when(userRepository.findById(ID)).thenReturn(empty());
+        when(userRepository.findByIdAndTenantId(ID, TENANT)).thenReturn(empty());
 
         // When
         var ex = assertThrows(NotFoundException.class, () -> userService.getById(ID));
@@ -121,6 +143,64 @@ class UserServiceTest {
         assertEquals("User not found", ex.getMessage());
     }
 
+    @Test
+    void testDelete() {
+        // Given
+        when(userRepository.findByIdAndTenantId(ID, TENANT)).thenReturn(Optional.of(buildUser(ID)));
+        var deletedUser = buildUser(ID);
+        deletedUser.setEnabled(false);
+
+        // When
+        userService.delete(ID);
+
+        // Then
+        verify(userRepository).update(deletedUser);
+    }
+
+    @Test
+    void testDeleteWhenNotFound() {
+        // Given
+        when(userRepository.findByIdAndTenantId(ID, TENANT)).thenReturn(empty());
+
+        // When
+        var ex = assertThrows(NotFoundException.class, () -> userService.delete(ID));
+
+        // Then
+        assertEquals("User not found", ex.getMessage());
+    }
+
+    @Test
+    void testLookup() {
+        // Given
+        var missingId = UUID.fromString("64e8a9f3-cf02-4a55-87bd-f1987cfac58d");
+        var req = LookupUsersReq.builder()
+                .ids(List.of(missingId, ID))
+                .build();
+        when(userRepository.findByIdInAndTenantId(List.of(missingId, ID), TENANT)).thenReturn(List.of(buildUser(ID)));
+
+        // When
+        var result = userService.lookup(req);
+
+        // Then
+        assertEquals(1, result.results().size());
+        assertEquals(ID, result.results().getFirst().id());
+        assertEquals(List.of(missingId), result.missingIds());
+    }
+
+    @Test
+    void testLookupWhenTooManyIds() {
+        // Given
+        var req = LookupUsersReq.builder()
+                .ids(Stream.generate(UUID::randomUUID).limit(101).toList())
+                .build();
+
+        // When
+        var ex = assertThrows(InvalidRequestException.class, () -> userService.lookup(req));
+
+        // Then
+        assertEquals("A maximum of 100 ids can be looked up at once", ex.getMessage());
+    }
+
     private static CreateUserReq buildCreateUserRequest() {
         return CreateUserReq.builder()
                 .name(NAME)
@@ -134,11 +214,14 @@ class UserServiceTest {
     private static User buildUser(UUID id) {
         User user = new User();
         user.setId(id);
+        user.setTenantId(TENANT);
         user.setName(NAME);
         user.setType(TYPE);
         user.setEmail(EMAIL);
         user.setBirthdate(BIRTHDATE);
         user.setGender(GENDER);
+        user.setCreatedAt(NOW);
+        user.setUpdatedAt(NOW);
 
         return user;
     }
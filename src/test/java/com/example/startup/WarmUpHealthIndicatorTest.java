@@ -0,0 +1,80 @@
+package com.example.startup;
+
+import com.example.codec.ResponseEncoder;
+import com.example.config.TenancyProperties;
+import com.example.config.WarmUpProperties;
+import com.example.dto.CustomPage;
+import com.example.dto.UserDto;
+import com.example.persistence.specification.UserSearchCompiler;
+import com.example.service.UserService;
+import io.micronaut.health.HealthStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WarmUpHealthIndicatorTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final WarmUp warmUp = new WarmUp(userService, mock(ResponseEncoder.class), mock(EntityManagerFactory.class),
+            mock(UserSearchCompiler.class), new TenancyProperties());
+    private final WarmUpProperties properties = new WarmUpProperties();
+    private final WarmUpRunner warmUpRunner = new WarmUpRunner(warmUp, properties);
+    private final WarmUpHealthIndicator healthIndicator = new WarmUpHealthIndicator(warmUp, properties);
+
+    @Test
+    void testReportsDownUntilWarmUpCompletes() throws Exception {
+        // Given
+        var release = new CountDownLatch(1);
+        properties.setEnabled(true);
+        properties.setMode(WarmUpMode.DATABASE);
+        properties.setIterations(1);
+        when(userService.search(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return CustomPage.<UserDto>builder().results(List.of()).build();
+        });
+
+        // When
+        warmUpRunner.onStartup(null);
+
+        // Then
+        assertEquals(HealthStatus.DOWN, status());
+        release.countDown();
+        awaitStatus(HealthStatus.UP);
+    }
+
+    @Test
+    void testReportsUpAfterFailedWarmUp() throws Exception {
+        // Given
+        properties.setEnabled(true);
+        properties.setMode(WarmUpMode.DATABASE);
+        properties.setIterations(1);
+        when(userService.search(any(), any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        // When
+        warmUpRunner.onStartup(null);
+
+        // Then
+        awaitStatus(HealthStatus.UP);
+    }
+
+    private HealthStatus status() {
+        return Mono.from(healthIndicator.getResult()).block().getStatus();
+    }
+
+    private void awaitStatus(HealthStatus expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (status() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, status());
+    }
+}
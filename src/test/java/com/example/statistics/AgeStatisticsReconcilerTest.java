@@ -0,0 +1,98 @@
+package com.example.statistics;
+
+import com.example.dto.AgeCountDto;
+import com.example.dto.CreateUserReq;
+import com.example.persistence.model.User;
+import com.example.persistence.repository.UserRepository;
+import com.example.service.UserService;
+import io.micronaut.test.annotation.Sql;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static com.example.dto.Gender.MALE;
+import static com.example.dto.UserType.T1;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Sql(scripts = "feed-users.sql")
+class AgeStatisticsReconcilerTest {
+
+    @Inject
+    private AgeStatisticsReconciler reconciler;
+    @Inject
+    private UserAgeStatistics userAgeStatistics;
+    @Inject
+    private UserService userService;
+    @Inject
+    private UserRepository userRepository;
+
+    @Test
+    void testReconcileCountsUsersMissingFromBuckets() {
+        // Given
+        reconciler.reconcile();
+
+        // When
+        var statistics = userAgeStatistics.statistics(Set.of(T1), MALE, null);
+
+        // Then
+        assertEquals(4, statistics.total());
+        assertEquals(2, statistics.ages().stream()
+                .filter(age -> age.birthYear() == 1990)
+                .mapToLong(AgeCountDto::count)
+                .sum());
+        assertEquals(0, reconciler.reconcile());
+    }
+
+    @Test
+    void testCreateAndDeleteKeepBucketsInSync() {
+        // Given
+        reconciler.reconcile();
+        var before = userAgeStatistics.statistics(Set.of(T1), MALE, null).total();
+
+        // When
+        var user = userService.create(CreateUserReq.builder()
+                .name("John Doe")
+                .email("jdoe@gmail.com")
+                .birthdate(LocalDate.of(1994, 11, 15))
+                .gender(MALE)
+                .type(T1)
+                .build());
+        var afterCreate = userAgeStatistics.statistics(Set.of(T1), MALE, null).total();
+        userService.delete(user.id());
+        var afterDelete = userAgeStatistics.statistics(Set.of(T1), MALE, null).total();
+
+        // Then
+        assertEquals(before + 1, afterCreate);
+        assertEquals(before, afterDelete);
+        assertEquals(0, reconciler.reconcile());
+    }
+
+    @Test
+    void testDeleteLegacyUserWithoutBirthdate() {
+        // Given
+        reconciler.reconcile();
+        var before = userAgeStatistics.statistics(null, null, null).total();
+        var legacy = new User();
+        legacy.setTenantId("default");
+        legacy.setName("John Doe");
+        legacy.setEmail("jdoe@gmail.com");
+        legacy.setCreatedAt(Instant.now());
+        legacy.setUpdatedAt(legacy.getCreatedAt());
+        var id = userRepository.save(legacy).getId();
+
+        // When
+        assertDoesNotThrow(() -> userService.delete(id));
+
+        // Then
+        assertTrue(userRepository.findByIdAndTenantId(id, "default").isEmpty());
+        assertEquals(before, userAgeStatistics.statistics(null, null, null).total());
+        assertEquals(0, reconciler.reconcile());
+    }
+}
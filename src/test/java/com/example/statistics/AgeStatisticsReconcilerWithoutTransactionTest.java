@@ -0,0 +1,49 @@
+package com.example.statistics;
+
+import com.example.dto.CreateUserReq;
+import com.example.persistence.repository.UserAgeBucketRepository;
+import com.example.service.UserService;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static com.example.dto.Gender.MALE;
+import static com.example.dto.UserType.T1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest(transactional = false)
+class AgeStatisticsReconcilerWithoutTransactionTest {
+
+    @Inject
+    private AgeStatisticsReconciler reconciler;
+    @Inject
+    private UserAgeStatistics userAgeStatistics;
+    @Inject
+    private UserAgeBucketRepository userAgeBucketRepository;
+    @Inject
+    private UserService userService;
+
+    @Test
+    void testReconcileRestoresBucketsOutsideTransaction() {
+        // Given
+        userService.create(CreateUserReq.builder()
+                .name("John Doe")
+                .email("jdoe@gmail.com")
+                .birthdate(LocalDate.of(1994, 11, 15))
+                .gender(MALE)
+                .type(T1)
+                .build());
+        userAgeBucketRepository.deleteAll();
+
+        // When
+        var corrected = reconciler.reconcile();
+
+        // Then
+        assertEquals(1, corrected);
+        assertEquals(1, userAgeStatistics.statistics(Set.of(T1), MALE, null).total());
+        assertEquals(0, reconciler.reconcile());
+    }
+}
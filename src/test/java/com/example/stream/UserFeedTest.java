@@ -0,0 +1,157 @@
+package com.example.stream;
+
+import com.example.config.StreamProperties;
+import com.example.dto.Gender;
+import com.example.dto.UserDto;
+import com.example.dto.UserType;
+import com.example.event.UserCreatedEvent;
+import com.example.exception.OverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.sse.Event;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.dto.Gender.FEMALE;
+import static com.example.dto.Gender.MALE;
+import static com.example.dto.UserType.T1;
+import static com.example.dto.UserType.T2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserFeedTest {
+
+    private static final String TENANT = "default";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StreamProperties properties = new StreamProperties();
+
+    @Test
+    void testSubscriberOnlyReceivesMatchingUsersOfItsTenant() {
+        // Given
+        var userFeed = new UserFeed(properties, meterRegistry);
+        var received = new CopyOnWriteArrayList<UserDto>();
+        var disposable = userFeed.subscribe(TENANT, Set.of(T1), MALE)
+                .subscribe(event -> received.add(event.getData()));
+        var expected = buildUser(T1, MALE);
+
+        // When
+        userFeed.onUserCreated(new UserCreatedEvent(TENANT, expected));
+        userFeed.onUserCreated(new UserCreatedEvent(TENANT, buildUser(T2, MALE)));
+        userFeed.onUserCreated(new UserCreatedEvent(TENANT, buildUser(T1, FEMALE)));
+        userFeed.onUserCreated(new UserCreatedEvent("acme", buildUser(T1, MALE)));
+
+        // Then
+        assertEquals(List.of(expected), received);
+        disposable.dispose();
+    }
+
+    @Test
+    void testSlowSubscriberDropsOldestEvents() {
+        // Given
+        properties.setBufferSize(2);
+        var userFeed = new UserFeed(properties, meterRegistry);
+        var subscriber = new SlowSubscriber();
+        userFeed.subscribe(TENANT, null, null).subscribe(subscriber);
+        var users = List.of(buildUser(T1, MALE), buildUser(T1, MALE), buildUser(T1, MALE), buildUser(T1, MALE));
+
+        // When
+        users.forEach(user -> userFeed.onUserCreated(new UserCreatedEvent(TENANT, user)));
+        subscriber.request(10);
+
+        // Then
+        assertEquals(List.of(users.get(2), users.get(3)), subscriber.received);
+        assertEquals(2, meterRegistry.counter("users.stream.overflows", "tenant", TENANT, "policy", "DROP_OLDEST").count());
+        subscriber.dispose();
+    }
+
+    @Test
+    void testSlowSubscriberIsDisconnectedWhenBufferOverflows() {
+        // Given
+        properties.setBufferSize(2);
+        properties.setOverflow(OverflowPolicy.DISCONNECT);
+        var userFeed = new UserFeed(properties, meterRegistry);
+        var subscriber = new SlowSubscriber();
+        userFeed.subscribe(TENANT, null, null).subscribe(subscriber);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            userFeed.onUserCreated(new UserCreatedEvent(TENANT, buildUser(T1, MALE)));
+        }
+
+        // Then
+        assertTrue(subscriber.isDisposed());
+        assertEquals(1, meterRegistry.counter("users.stream.overflows", "tenant", TENANT, "policy", "DISCONNECT").count());
+        assertEquals(0, meterRegistry.get("users.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void testSubscribeWhenTooManySubscribers() {
+        // Given
+        properties.setMaxSubscribers(1);
+        var userFeed = new UserFeed(properties, meterRegistry);
+        var disposable = userFeed.subscribe(TENANT, null, null).subscribe();
+
+        // When
+        var ex = assertThrows(OverloadedException.class, () -> userFeed.subscribe(TENANT, null, null).blockFirst());
+
+        // Then
+        assertEquals("Too many stream subscribers", ex.getMessage());
+        assertEquals(1, meterRegistry.get("users.stream.subscribers").gauge().value());
+        disposable.dispose();
+        userFeed.subscribe(TENANT, null, null).subscribe().dispose();
+    }
+
+    @Test
+    void testSubscribersAreCountedOnlyWhileSubscribed() {
+        // Given
+        properties.setMaxSubscribers(1);
+        var userFeed = new UserFeed(properties, meterRegistry);
+        var gauge = meterRegistry.get("users.stream.subscribers").gauge();
+
+        // When
+        var first = userFeed.subscribe(TENANT, null, null);
+        var second = userFeed.subscribe(TENANT, null, null);
+
+        // Then
+        assertEquals(0, gauge.value());
+        var disposable = second.subscribe();
+        assertEquals(1, gauge.value());
+        disposable.dispose();
+        assertEquals(0, gauge.value());
+        first.subscribe().dispose();
+        assertEquals(0, gauge.value());
+    }
+
+    private static UserDto buildUser(UserType type, Gender gender) {
+        return UserDto.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .email("jdoe@gmail.com")
+                .birthdate(LocalDate.of(1994, 11, 15))
+                .gender(gender)
+                .type(type)
+                .build();
+    }
+
+    private static class SlowSubscriber extends BaseSubscriber<Event<UserDto>> {
+
+        private final List<UserDto> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(Event<UserDto> event) {
+            received.add(event.getData());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.validation;
+
+import com.example.config.ValidationProperties;
+import com.example.dto.CreateUserReq;
+import io.micronaut.validation.validator.Validator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestValidatorTest {
+
+    private static final CreateUserReq INVALID_REQ = CreateUserReq.builder()
+            .email("jdoe")
+            .build();
+
+    private final ValidationProperties properties = new ValidationProperties();
+    private final RequestValidator requestValidator = new RequestValidator(Validator.getInstance(), properties);
+
+    @Test
+    void testValidateReportsEveryViolation() {
+        // When
+        var ex = assertThrows(ConstraintViolationException.class, () -> requestValidator.validate(INVALID_REQ));
+
+        // Then
+        assertEquals(Set.of("Name is mandatory", "Invalid email format", "Birthdate is mandatory", "Gender is mandatory", "Type is mandatory"),
+                messages(ex));
+    }
+
+    @Test
+    void testValidateWhenFailFastReportsFirstViolation() {
+        // Given
+        properties.setFailFast(true);
+
+        // When
+        var ex = assertThrows(ConstraintViolationException.class, () -> requestValidator.validate(INVALID_REQ));
+
+        // Then
+        assertEquals(1, ex.getConstraintViolations().size());
+        assertEquals(Set.of("Name is mandatory"), messages(ex));
+    }
+
+    private static Set<String> messages(ConstraintViolationException ex) {
+        return ex.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}